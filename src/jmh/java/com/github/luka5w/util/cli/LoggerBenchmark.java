@@ -0,0 +1,101 @@
+package com.github.luka5w.util.cli;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures logging at each level with one and with multiple threads.
+ *
+ * <p>The output is discarded, so only the formatting and filtering is measured.
+ * Messages below the log level measure the cost of a disabled call.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggerBenchmark {
+
+    @Param({"0", "2", "4"})
+    public int level;
+
+    private PrintStream out;
+    private Logger logger;
+    private Logger child;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.out = System.out;
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {}
+
+            @Override
+            public void write(byte[] b, int off, int len) {}
+        }));
+        this.logger = new Logger("bench", this.level);
+        this.child = new Logger("child", this.logger);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(this.out);
+    }
+
+    @Benchmark
+    public void debug() {
+        this.logger.debug("message");
+    }
+
+    @Benchmark
+    public void info() {
+        this.logger.info("message");
+    }
+
+    @Benchmark
+    public void log() {
+        this.logger.log("message");
+    }
+
+    @Benchmark
+    public void warn() {
+        this.logger.warn("message");
+    }
+
+    @Benchmark
+    public void error() {
+        this.logger.error("message");
+    }
+
+    @Benchmark
+    public void childLog() {
+        this.child.log("message");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void debugContended() {
+        this.logger.debug("message");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void logContended() {
+        this.logger.log("message");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void errorContended() {
+        this.logger.error("message");
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.luka5w.util.data;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+/**
+ * Measures reading and writing files of different sizes with {@link FileUtils}.
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileUtilsBenchmark {
+
+    @Param({"1024", "65536", "1048576"})
+    public int size;
+
+    private File source;
+    private File target;
+    private File compressed;
+    private File compressedTarget;
+    private String content;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        StringBuilder sb = new StringBuilder(this.size);
+        for (int i = 0; i < this.size; i++) sb.append((char) ('a' + i % 26));
+        // the needle is in the middle of the file
+        sb.setCharAt(this.size / 2, '=');
+        this.content = sb.toString();
+        this.source = File.createTempFile("javautils-bench", ".txt");
+        this.target = File.createTempFile("javautils-bench", ".txt");
+        FileUtils.write(this.source, this.content);
+        this.compressed = File.createTempFile("javautils-bench", ".txt.gz");
+        this.compressedTarget = File.createTempFile("javautils-bench", ".txt.gz");
+        FileUtils.writeCompressed(this.compressed, this.content, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.source.delete();
+        this.target.delete();
+        this.compressed.delete();
+        this.compressedTarget.delete();
+    }
+
+    @Benchmark
+    public String read() throws IOException {
+        return FileUtils.read(this.source);
+    }
+
+    @Benchmark
+    public String readFrom() throws IOException {
+        return FileUtils.readFrom(this.source, '=');
+    }
+
+    @Benchmark
+    public String readUntil() throws IOException {
+        return FileUtils.readUntil(this.source, '=');
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        FileUtils.write(this.target, this.content);
+    }
+
+    @Benchmark
+    public String readCompressed() throws IOException {
+        return FileUtils.readCompressed(this.compressed);
+    }
+
+    @Benchmark
+    public void writeCompressedFast() throws IOException {
+        FileUtils.writeCompressed(this.compressedTarget, this.content, Deflater.BEST_SPEED);
+    }
+
+    @Benchmark
+    public void writeCompressedDefault() throws IOException {
+        FileUtils.writeCompressed(this.compressedTarget, this.content, Deflater.DEFAULT_COMPRESSION);
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.luka5w.util.data;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ParseUtils} with {@link Utils#isTrue(String)} and the parsers of the JDK.
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseUtilsBenchmark {
+    private final ParseResult result = new ParseResult();
+
+    private String bool = "false";
+    private String number = "-1234567890";
+    private String duration = "250ms";
+    private String size = "64KiB";
+
+    @Benchmark
+    public boolean parseBoolean() {
+        return ParseUtils.parseBoolean(this.bool, this.result) && this.result.getBoolean();
+    }
+
+    @Benchmark
+    public boolean isTrue() {
+        return Utils.isTrue(this.bool);
+    }
+
+    @Benchmark
+    public long parseLong() {
+        ParseUtils.parseLong(this.number, this.result);
+        return this.result.getLong();
+    }
+
+    @Benchmark
+    public long jdkParseLong() {
+        return Long.parseLong(this.number);
+    }
+
+    @Benchmark
+    public long parseDuration() {
+        ParseUtils.parseDuration(this.duration, this.result);
+        return this.result.getLong();
+    }
+
+    @Benchmark
+    public long parseSize() {
+        ParseUtils.parseSize(this.size, this.result);
+        return this.result.getLong();
+    }
+}
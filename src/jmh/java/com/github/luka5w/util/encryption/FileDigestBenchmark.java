@@ -0,0 +1,65 @@
+package com.github.luka5w.util.encryption;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures digests and checksums of files of different sizes with {@link FileDigest}.
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileDigestBenchmark {
+
+    @Param({"65536", "16777216"})
+    public int size;
+
+    private File file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        this.file = File.createTempFile("javautils-bench", ".bin");
+        byte[] chunk = new byte[1 << 16];
+        new Random(0).nextBytes(chunk);
+        try (OutputStream out = Files.newOutputStream(this.file.toPath())) {
+            for (int written = 0; written < this.size; written += chunk.length) out.write(chunk, 0, Math.min(chunk.length, this.size - written));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.file.delete();
+    }
+
+    @Benchmark
+    public byte[] sha256() throws IOException, NoSuchAlgorithmException {
+        return FileDigest.digest(this.file, "SHA-256");
+    }
+
+    @Benchmark
+    public long crc32c() throws IOException {
+        return FileDigest.crc32c(this.file);
+    }
+
+    @Benchmark
+    public long crc32cFallback() throws IOException {
+        Crc32c checksum = new Crc32c();
+        checksum.update(Files.readAllBytes(this.file.toPath()), 0, this.size);
+        return checksum.getValue();
+    }
+}
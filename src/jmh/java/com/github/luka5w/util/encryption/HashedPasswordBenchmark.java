@@ -0,0 +1,53 @@
+package com.github.luka5w.util.encryption;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures hashing and verifying passwords with {@link HashedPassword}.
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashedPasswordBenchmark {
+    private static final String PASSWORD = "correct horse battery staple";
+
+    private HashedPassword hashed;
+    private String exported;
+
+    @Setup(Level.Trial)
+    public void setup() throws NoSuchAlgorithmException {
+        this.hashed = new HashedPassword(PASSWORD);
+        this.exported = this.hashed.toString();
+    }
+
+    @Benchmark
+    public HashedPassword create() throws NoSuchAlgorithmException {
+        return new HashedPassword(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verify() throws NoSuchAlgorithmException {
+        return this.hashed.verify(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verifyWrong() throws NoSuchAlgorithmException {
+        return this.hashed.verify("wrong password");
+    }
+
+    @Benchmark
+    public HashedPassword fromString() {
+        return HashedPassword.fromString(this.exported);
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.luka5w.util.program;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures initializing programs (parsing the arguments and checking the config file).
+ *
+ * <p>The options are cached per main class, so this measures repeated initializations in a warm JVM.
+ * Use --profile-startup for the first initialization.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProgramBenchmark {
+    private final BenchMainClass mainClass = new BenchMainClass();
+    private final BenchSmallMainClass smallMainClass = new BenchSmallMainClass();
+
+    private File configFile;
+    private String[] args;
+    private String[] smallArgs;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        this.configFile = File.createTempFile("javautils-bench", ".cfg");
+        this.args = new String[] { "-c", this.configFile.getPath(), "--name", "bench", "input.txt" };
+        this.smallArgs = new String[] { "--name", "bench", "input.txt" };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.configFile.delete();
+    }
+
+    @Benchmark
+    public Program init() {
+        Program program = new Program(this.mainClass, this.args, this.configFile, "bench", "1.0.0", null, null);
+        program.init();
+        return program;
+    }
+
+    @Benchmark
+    public SmallProgram initSmall() {
+        SmallProgram program = new SmallProgram(this.smallMainClass, this.smallArgs, "bench", "1.0.0", null, null);
+        program.init();
+        return program;
+    }
+
+    private static void addOptions(Options options) {
+        options.addOption(Option.builder("n").longOpt("name").hasArg().argName("NAME").desc("the name").build());
+    }
+
+    private static final class BenchMainClass implements MainClass {
+        @Override
+        public void getOptions(Options options) {
+            addOptions(options);
+        }
+
+        @Override
+        public void setup(CommandLine cmd, File configFile) {}
+
+        @Override
+        public void main(CommandLine cmd, File configFile) {}
+    }
+
+    private static final class BenchSmallMainClass implements SmallMainClass {
+        @Override
+        public void getOptions(Options options) {
+            addOptions(options);
+        }
+
+        @Override
+        public void setup(CommandLine cmd) {}
+
+        @Override
+        public void main(CommandLine cmd) {}
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.luka5w.util.versioning;
+
+import com.github.luka5w.util.exception.IncomparableException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures comparing versions (see {@link VersionParseBenchmark} for parsing).
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VersionCompareBenchmark {
+    private final Version lower = Version.fromString("1.20.3");
+    private final Version higher = Version.fromString("1.20.4");
+    private final Version equal = Version.fromString("1.20.3");
+    private final Version other = Version.fromString("pre1.20.4");
+
+    @Benchmark
+    public int compareTo() {
+        return this.lower.compareTo(this.higher);
+    }
+
+    @Benchmark
+    public boolean equals() {
+        return this.lower.equals(this.equal);
+    }
+
+    @Benchmark
+    public boolean isHigherThan() throws IncomparableException {
+        return this.higher.isHigherThan(this.lower);
+    }
+
+    @Benchmark
+    public boolean isLowerThanOnEqual() throws IncomparableException {
+        return this.lower.isLowerThan(this.equal, true);
+    }
+
+    @Benchmark
+    public boolean isHigherThanIncomparable() {
+        try {
+            return this.higher.isHigherThan(this.other);
+        }
+        catch (IncomparableException e) {
+            return false;
+        }
+    }
+}
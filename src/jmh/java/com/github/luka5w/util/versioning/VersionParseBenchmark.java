@@ -0,0 +1,121 @@
+package com.github.luka5w.util.versioning;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.text.ParsePosition;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single-pass {@link VersionParser} with the former regex based parser.
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VersionParseBenchmark {
+    private static final String INVALID = "pre1.x";
+
+    @Param({"1.2", "v1.20.3", "pre10.0.1.2"})
+    public String version;
+
+    private final ParsePosition pos = new ParsePosition(0);
+
+    @Benchmark
+    public Version fromString() {
+        return Version.fromString(this.version);
+    }
+
+    @Benchmark
+    public Version tryParse() {
+        return Version.tryParse(this.version);
+    }
+
+    @Benchmark
+    public Version tryParsePosition() {
+        this.pos.setIndex(0);
+        this.pos.setErrorIndex(-1);
+        return Version.tryParse(this.version, this.pos);
+    }
+
+    @Benchmark
+    public Version legacyFromString() {
+        return legacyFromString(this.version);
+    }
+
+    @Benchmark
+    public void invalidFromString(Blackhole bh) {
+        try {
+            bh.consume(Version.fromString(INVALID));
+        }
+        catch (IllegalArgumentException e) {
+            bh.consume(e);
+        }
+    }
+
+    @Benchmark
+    public Version invalidTryParse() {
+        return Version.tryParse(INVALID);
+    }
+
+    @Benchmark
+    public void invalidLegacyFromString(Blackhole bh) {
+        try {
+            bh.consume(legacyFromString(INVALID));
+        }
+        catch (IllegalArgumentException e) {
+            bh.consume(e);
+        }
+    }
+
+    /**
+     * The parser used by {@link Version#fromString(String)} up to version 1.3.0.
+     */
+    private static Version legacyFromString(String version) {
+        String[] version1 = version.split("\\.");
+        if (version1.length < 2) throw new IllegalArgumentException("Unknown Version Scheme (err at pos 1)");
+        VersionType type = VersionType.NONE;
+        int major;
+        int minor;
+        int build = -1;
+        int revision = -1;
+        if (Character.isDigit(version1[0].charAt(0))) {
+            try {
+                major = Integer.parseInt(version1[0]);
+            }
+            catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Unknown Version Scheme (err at pos 3.1)");
+            }
+        } else {
+            version1[0] = version1[0].toLowerCase();
+            int i = -1;
+            while (++i < version1[0].length()) {
+                if (!Character.isLetter(version1[0].charAt(i))) break;
+            }
+            if (i == version1[0].length()) throw new IllegalArgumentException("Unknown Version Scheme (err at pos 2)");
+            try {
+                type = VersionType.fromString(version1[0].substring(0, i));
+                major = Integer.parseInt(version1[0].substring(i));
+            }
+            catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown Version Scheme (err at pos 3.2)");
+            }
+        }
+        try {
+            minor = Integer.parseInt(version1[1]);
+            if (version1.length > 2) build = Integer.parseInt(version1[2]);
+            if (version1.length > 3) revision = Integer.parseInt(version1[3]);
+            return new Version(type, major, minor, build, revision);
+        }
+        catch(IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown Version Scheme (err at pos 4)");
+        }
+    }
+}
@@ -6,7 +6,7 @@ package com.github.luka5w.util.cli;
  * GitHub: https://github.com/luka5w/javautils
  *
  * @author Lukas // https://github.com/luka5w
- * @version 1.0.0
+ * @version 1.1.0
  */
 public class CLIUtils {
 
@@ -25,6 +25,8 @@ public class CLIUtils {
     /**
      * Logs a message and exits the program with the passed status code.
      *
+     * <p>All buffers registered at the {@link ShutdownCoordinator} are flushed before the program exits.</p>
+     *
      * @param message The message to log.
      * @param status The status code with which the program should exit.
      *
@@ -32,6 +34,6 @@ public class CLIUtils {
      */
     public static void logAndExit(String message, int status) {
         System.out.println(message);
-        System.exit(status);
+        ShutdownCoordinator.exit(status);
     }
 }
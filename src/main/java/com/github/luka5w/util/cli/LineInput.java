@@ -0,0 +1,248 @@
+package com.github.luka5w.util.cli;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * LineInput
+ *
+ * <p>The line input of {@link Prompt}, shared by all prompts so no input is lost between them.</p>
+ *
+ * <p>The input is read from a console, a pipe, any stream or a list of answers (e.g. an answer file for batch setups).
+ * Streams are read by a daemon thread, one line per request, so reading can time out.
+ * Answers are served from memory without any thread.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public final class LineInput {
+    private static final Object EOF = new Object();
+    private static final ThreadLocal<LineInput> LOCAL = new ThreadLocal<>();
+    private static volatile LineInput shared = null;
+
+    private final BlockingQueue<Object> lines = new LinkedBlockingQueue<>();
+    private final BufferedReader reader;
+    private final boolean console;
+    private final Semaphore demand = new Semaphore(0);
+
+    private Thread thread = null;
+    private boolean pending = false;
+
+    /**
+     * Creates a new input reading lines from a stream.
+     *
+     * @param in The stream.
+     * @param charset The charset of the stream.
+     *
+     * @since 1.4.0
+     */
+    public LineInput(InputStream in, Charset charset) {
+        this(in, charset, false);
+    }
+
+    private LineInput(InputStream in, Charset charset, boolean console) {
+        this.reader = new BufferedReader(new InputStreamReader(in, charset), 1 << 16);
+        this.console = console;
+    }
+
+    private LineInput(List<String> answers) {
+        this.reader = null;
+        this.console = false;
+        this.lines.addAll(answers);
+        this.lines.add(EOF);
+    }
+
+    /**
+     * Creates a new input serving answers.
+     *
+     * @param answers The answers (one per prompt).
+     * @return The input.
+     *
+     * @since 1.4.0
+     */
+    public static LineInput of(List<String> answers) {
+        return new LineInput(answers);
+    }
+
+    /**
+     * Creates a new input serving the lines of an answer file.
+     *
+     * @param answers The answer file (UTF-8, one answer per line).
+     * @return The input.
+     *
+     * @throws IOException When a file operation went wrong.
+     *
+     * @since 1.4.0
+     */
+    public static LineInput fromFile(Path answers) throws IOException {
+        return new LineInput(Files.readAllLines(answers, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the shared input used by {@link Prompt}.
+     *
+     * @return The input set for the current thread by {@link #setForThread(LineInput)},
+     * the input set by {@link #set(LineInput)} or an input reading {@link System#in}.
+     *
+     * @since 1.4.0
+     */
+    public static LineInput get() {
+        LineInput input = LOCAL.get();
+        if (input == null) input = shared;
+        if (input != null) return input;
+        synchronized (LineInput.class) {
+            if (shared == null) shared = new LineInput(System.in, Charset.defaultCharset(), System.console() != null);
+            return shared;
+        }
+    }
+
+    /**
+     * Replaces the shared input used by {@link Prompt}.
+     *
+     * @param input The input or null to read {@link System#in}.
+     *
+     * @since 1.4.0
+     */
+    public static void set(LineInput input) {
+        synchronized (LineInput.class) {
+            shared = input;
+        }
+    }
+
+    /**
+     * Replaces the input used by {@link Prompt} on the current thread only,
+     * e.g. for a program running in a server next to other programs.
+     *
+     * @param input The input or null to use the shared input.
+     *
+     * @since 1.4.0
+     */
+    public static void setForThread(LineInput input) {
+        if (input == null) LOCAL.remove();
+        else LOCAL.set(input);
+    }
+
+    /**
+     * Returns whether this input reads the console.
+     *
+     * @return Whether this input reads {@link System#in} attached to a console.
+     *
+     * @since 1.4.0
+     */
+    public boolean isConsole() {
+        return this.console;
+    }
+
+    /**
+     * Reads the next line.
+     *
+     * @return The line or null at the end of the input.
+     *
+     * @since 1.4.0
+     */
+    public synchronized String readLine() {
+        this.request();
+        Object line;
+        try {
+            line = this.lines.take();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        return this.received(line);
+    }
+
+    /**
+     * Reads the next line.
+     *
+     * @param timeoutMillis The maximal time to wait for the line in milliseconds.
+     * @return The line or null at the end of the input.
+     *
+     * @throws TimeoutException When no line was read within the timeout. The line is returned by the next read.
+     *
+     * @since 1.4.0
+     */
+    public synchronized String readLine(long timeoutMillis) throws TimeoutException {
+        this.request();
+        Object line;
+        try {
+            line = this.lines.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        if (line == null) throw new TimeoutException("no input within " + timeoutMillis + " ms");
+        return this.received(line);
+    }
+
+    /**
+     * Returns whether no line is being read, so the console can be read directly (e.g. for passwords).
+     *
+     * @return Whether this input doesn't wait for a line and has no unread lines.
+     *
+     * @since 1.4.0
+     */
+    synchronized boolean isIdle() {
+        return !this.pending && this.lines.isEmpty();
+    }
+
+    /**
+     * Requests the reader thread to read a line, unless a line was already requested.
+     */
+    private void request() {
+        if (this.reader == null || this.pending) return;
+        this.pending = true;
+        if (this.thread == null) {
+            this.thread = new Thread(this::read, "prompt-input");
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+        this.demand.release();
+    }
+
+    private String received(Object line) {
+        this.pending = false;
+        if (line == EOF) {
+            // keep the end of the input for further reads
+            this.lines.add(EOF);
+            return null;
+        }
+        return (String) line;
+    }
+
+    private void read() {
+        try {
+            while (true) {
+                this.demand.acquire();
+                String line = this.reader.readLine();
+                if (line == null) {
+                    this.lines.add(EOF);
+                    return;
+                }
+                this.lines.add(line);
+            }
+        }
+        catch (IOException e) {
+            this.lines.add(EOF);
+        }
+        catch (InterruptedException e) {
+            // stopped
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.github.luka5w.util.cli;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LogMetrics
+ *
+ * <p>Counters of the messages handled by a {@link Logger}.</p>
+ *
+ * <p>The counters are {@link LongAdder}s, so logging from many threads doesn't contend on a single counter.
+ * Every logger has its own counters, which include the messages of its child-loggers.
+ * The counters of all loggers are summed up in {@link #global()}.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public class LogMetrics implements LogMetricsMXBean {
+    private static final int LEVELS = 5;
+    private static final LogMetrics GLOBAL = new LogMetrics(null);
+
+    private final LogMetrics global;
+    private final LongAdder[] written = adders();
+    private final LongAdder[] sampled = adders();
+    private final LongAdder[] suppressed = adders();
+
+    /**
+     * Creates new counters.
+     *
+     * @param global The global counters to update as well (null for the global counters themselves).
+     *
+     * @since 1.4.0
+     */
+    LogMetrics(LogMetrics global) {
+        this.global = global;
+    }
+
+    /**
+     * Creates new counters for a logger.
+     *
+     * @return The counters.
+     *
+     * @since 1.4.0
+     */
+    static LogMetrics create() {
+        return new LogMetrics(GLOBAL);
+    }
+
+    /**
+     * Returns the counters of all loggers.
+     *
+     * @return The global counters.
+     *
+     * @since 1.4.0
+     */
+    public static LogMetrics global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Returns the index of a log-type.
+     *
+     * @param type The log-type.
+     * @return The level (0 up to 4).
+     *
+     * @since 1.4.0
+     */
+    static int level(char type) {
+        switch (type) {
+            case 'D':
+                return 0;
+            case 'I':
+                return 1;
+            case 'L':
+                return 2;
+            case 'W':
+                return 3;
+            default:
+                return 4;
+        }
+    }
+
+    void written(char type) {
+        // the global counters are updated by the root logger, which actually writes the message
+        this.written[level(type)].increment();
+    }
+
+    void sampled(char type) {
+        this.sampled[level(type)].increment();
+        if (this.global != null) this.global.sampled(type);
+    }
+
+    void suppressed(char type) {
+        this.suppressed[level(type)].increment();
+        if (this.global != null) this.global.suppressed(type);
+    }
+
+    /**
+     * Returns a copy of the counters.
+     *
+     * <p>The counters aren't frozen while copying, so messages logged concurrently may or may not be included.</p>
+     *
+     * @return The snapshot.
+     *
+     * @since 1.4.0
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(sum(this.written), sum(this.sampled), sum(this.suppressed));
+    }
+
+    /**
+     * Registers these counters at the platform MBean server.
+     *
+     * @param name The name used in the object name (com.github.luka5w.util.cli:type=Logger,name=&lt;name&gt;).
+     *
+     * @throws JMException When the registration failed, e.g. when the name is already registered.
+     *
+     * @since 1.4.0
+     */
+    public void register(String name) throws JMException {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName("com.github.luka5w.util.cli:type=Logger,name=" + ObjectName.quote(name)));
+    }
+
+    @Override
+    public long[] getWritten() {
+        return sum(this.written);
+    }
+
+    @Override
+    public long[] getSampled() {
+        return sum(this.sampled);
+    }
+
+    @Override
+    public long[] getSuppressed() {
+        return sum(this.suppressed);
+    }
+
+    @Override
+    public long getTotalWritten() {
+        long total = 0;
+        for (LongAdder adder : this.written) total += adder.sum();
+        return total;
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < LEVELS; i++) {
+            this.written[i].reset();
+            this.sampled[i].reset();
+            this.suppressed[i].reset();
+        }
+    }
+
+    private static LongAdder[] adders() {
+        LongAdder[] adders = new LongAdder[LEVELS];
+        for (int i = 0; i < LEVELS; i++) adders[i] = new LongAdder();
+        return adders;
+    }
+
+    private static long[] sum(LongAdder[] adders) {
+        long[] sums = new long[LEVELS];
+        for (int i = 0; i < LEVELS; i++) sums[i] = adders[i].sum();
+        return sums;
+    }
+
+    /**
+     * An immutable copy of {@link LogMetrics}.
+     *
+     * <p>All levels are 0 up to 4 (0: debug, 1: info, 2: log, 3: warning, 4: error).
+     * {@link #toString()} formats the counters as &lt;type&gt;=&lt;written&gt;/&lt;sampled&gt;/&lt;suppressed&gt;.</p>
+     */
+    public static final class Snapshot {
+        private final long[] written;
+        private final long[] sampled;
+        private final long[] suppressed;
+
+        private Snapshot(long[] written, long[] sampled, long[] suppressed) {
+            this.written = written;
+            this.sampled = sampled;
+            this.suppressed = suppressed;
+        }
+
+        /**
+         * Returns the amount of written messages of a level.
+         *
+         * @param level The level.
+         * @return The written messages.
+         *
+         * @since 1.4.0
+         */
+        public long getWritten(int level) {
+            return this.written[level];
+        }
+
+        /**
+         * Returns the amount of messages of a level dropped by sampling.
+         *
+         * @param level The level.
+         * @return The sampled out messages.
+         *
+         * @since 1.4.0
+         */
+        public long getSampled(int level) {
+            return this.sampled[level];
+        }
+
+        /**
+         * Returns the amount of messages of a level dropped by rate limiting or duplicate suppression.
+         *
+         * @param level The level.
+         * @return The suppressed messages.
+         *
+         * @since 1.4.0
+         */
+        public long getSuppressed(int level) {
+            return this.suppressed[level];
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            char[] types = {'D', 'I', 'L', 'W', 'E'};
+            for (int i = 0; i < LEVELS; i++) {
+                if (i != 0) sb.append(' ');
+                sb.append(types[i]).append('=').append(this.written[i])
+                        .append('/').append(this.sampled[i])
+                        .append('/').append(this.suppressed[i]);
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.luka5w.util.cli;
+
+/**
+ * LogMetricsMXBean
+ *
+ * <p>The JMX interface of {@link LogMetrics}.</p>
+ *
+ * <p>All arrays are indexed by log level (0: debug, 1: info, 2: log, 3: warning, 4: error).</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public interface LogMetricsMXBean {
+
+    /**
+     * Returns the amount of written messages per level.
+     *
+     * @return The written messages.
+     * @since 1.4.0
+     */
+    long[] getWritten();
+
+    /**
+     * Returns the amount of messages dropped by sampling per level.
+     *
+     * @return The sampled out messages.
+     * @since 1.4.0
+     */
+    long[] getSampled();
+
+    /**
+     * Returns the amount of messages dropped by rate limiting or duplicate suppression per level.
+     *
+     * @return The suppressed messages.
+     * @since 1.4.0
+     */
+    long[] getSuppressed();
+
+    /**
+     * Returns the amount of written messages of all levels.
+     *
+     * @return The written messages.
+     * @since 1.4.0
+     */
+    long getTotalWritten();
+
+    /**
+     * Resets all counters.
+     *
+     * @since 1.4.0
+     */
+    void reset();
+}
@@ -0,0 +1,211 @@
+package com.github.luka5w.util.cli;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LogThrottle
+ *
+ * <p>Rate limiting and duplicate suppression for a {@link Logger}.</p>
+ *
+ * <p>Every message (log-type and text) gets its own token bucket (implemented as a generic cell rate algorithm
+ * on a single {@link AtomicLong}), so one noisy message can't drown the others.
+ * Messages are keyed by their text instead of their call site, because finding the call site needs a stack trace per message.
+ * After 1024 different messages, further messages share one bucket per log-type.
+ * Identical consecutive lines are counted instead of written.
+ * All counters are lock-free.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+class LogThrottle {
+    private static final int MAX_BUCKETS = 1024;
+
+    private final Logger logger;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Map<Character, Bucket> overflow = new ConcurrentHashMap<>();
+    private final AtomicReference<Line> last = new AtomicReference<>();
+    private final LongAdder repeats = new LongAdder();
+    private final AtomicLong nextSummary = new AtomicLong();
+
+    /** Nanoseconds between two permits, 0 when rate limiting is disabled. */
+    private volatile long interval = 0;
+    /** Nanoseconds a bucket may run ahead (interval * burst). */
+    private volatile long capacity = 0;
+    private volatile boolean suppressDuplicates = false;
+    private volatile long summaryInterval = 60_000_000_000L;
+
+    /**
+     * Creates a new throttle for a logger.
+     *
+     * @param logger The logger to write notes about suppressed messages to.
+     *
+     * @since 1.4.0
+     */
+    LogThrottle(Logger logger) {
+        this.logger = logger;
+        this.nextSummary.set(System.nanoTime() + this.summaryInterval);
+    }
+
+    /**
+     * Sets the rate limit per call site.
+     *
+     * @param messagesPerSecond The sustained rate. 0 or lower disables rate limiting.
+     * @param burst The amount of messages which can be written at once before the rate applies.
+     *
+     * @since 1.4.0
+     */
+    void setRateLimit(double messagesPerSecond, int burst) {
+        if (messagesPerSecond <= 0) {
+            this.interval = 0;
+            return;
+        }
+        if (burst < 1) throw new IllegalArgumentException("burst must be 1 or higher");
+        long interval = Math.max(1, (long) (1_000_000_000L / messagesPerSecond));
+        this.capacity = interval * burst;
+        this.interval = interval;
+    }
+
+    /**
+     * Enables or disables the suppression of identical consecutive messages.
+     *
+     * @param suppressDuplicates Whether duplicates should be suppressed.
+     *
+     * @since 1.4.0
+     */
+    void setDuplicateSuppression(boolean suppressDuplicates) {
+        this.suppressDuplicates = suppressDuplicates;
+    }
+
+    /**
+     * Sets the interval in which suppressed messages are summarized.
+     *
+     * @param millis The interval in milliseconds.
+     *
+     * @since 1.4.0
+     */
+    void setSummaryInterval(long millis) {
+        if (millis <= 0) throw new IllegalArgumentException("interval must be positive");
+        this.summaryInterval = millis * 1_000_000L;
+        this.nextSummary.set(System.nanoTime() + this.summaryInterval);
+    }
+
+    /**
+     * Returns whether a message should be written.
+     *
+     * @param type The log-type.
+     * @param message The message.
+     * @return True when the message passed the throttle.
+     *
+     * @since 1.4.0
+     */
+    boolean admit(char type, String message) {
+        long now = System.nanoTime();
+        long next = this.nextSummary.get();
+        if (now - next >= 0 && this.nextSummary.compareAndSet(next, now + this.summaryInterval)) this.summarize();
+
+        if (this.suppressDuplicates) {
+            Line last = this.last.get();
+            if (last != null && last.type == type && last.message.equals(message)) {
+                this.repeats.increment();
+                return false;
+            }
+        }
+        if (this.interval != 0 && !this.bucket(type, message).tryAcquire(now)) return false;
+        if (this.suppressDuplicates) {
+            this.last.set(new Line(type, message));
+            this.flushRepeats();
+        }
+        return true;
+    }
+
+    /**
+     * Writes a note about every suppressed message since the last summary.
+     *
+     * @since 1.4.0
+     */
+    void summarize() {
+        this.flushRepeats();
+        for (Bucket bucket : this.buckets.values()) bucket.summarize();
+        for (Bucket bucket : this.overflow.values()) bucket.summarize();
+    }
+
+    /**
+     * Writes a note about how often the last message was repeated.
+     *
+     * @since 1.4.0
+     */
+    private void flushRepeats() {
+        long repeats = this.repeats.sumThenReset();
+        if (repeats > 0) this.logger.write('W', "last message repeated " + repeats + " times");
+    }
+
+    /**
+     * Returns the bucket of a message.
+     *
+     * @param type The log-type.
+     * @param message The message.
+     * @return The bucket.
+     *
+     * @since 1.4.0
+     */
+    private Bucket bucket(char type, String message) {
+        String key = type + message;
+        Bucket bucket = this.buckets.get(key);
+        if (bucket != null) return bucket;
+        // messages with changing parts (e.g. ids) would let the buckets grow without limit
+        if (this.buckets.size() >= MAX_BUCKETS) return this.overflow.computeIfAbsent(type, t -> new Bucket("[" + t + "] (other messages)"));
+        return this.buckets.computeIfAbsent(key, k -> new Bucket("[" + type + "] " + message));
+    }
+
+    /**
+     * A token bucket of a single message.
+     */
+    private final class Bucket {
+        /** The theoretical arrival time of the next message. */
+        private final AtomicLong tat = new AtomicLong(System.nanoTime());
+        private final LongAdder suppressed = new LongAdder();
+        private final String description;
+
+        private Bucket(String description) {
+            this.description = description;
+        }
+
+        private void summarize() {
+            long suppressed = this.suppressed.sumThenReset();
+            if (suppressed > 0) LogThrottle.this.logger.write('W', "suppressed " + suppressed + " messages: " + this.description);
+        }
+
+        private boolean tryAcquire(long now) {
+            long interval = LogThrottle.this.interval;
+            long capacity = LogThrottle.this.capacity;
+            while (true) {
+                long tat = this.tat.get();
+                long next = (tat - now > 0 ? tat : now) + interval;
+                if (next - now > capacity) {
+                    this.suppressed.increment();
+                    return false;
+                }
+                if (this.tat.compareAndSet(tat, next)) return true;
+            }
+        }
+    }
+
+    /**
+     * A written line used for duplicate detection.
+     */
+    private static final class Line {
+        private final char type;
+        private final String message;
+
+        private Line(char type, String message) {
+            this.type = type;
+            this.message = message;
+        }
+    }
+}
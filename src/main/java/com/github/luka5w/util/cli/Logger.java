@@ -1,7 +1,10 @@
 package com.github.luka5w.util.cli;
 
+import javax.management.JMException;
+import java.io.Flushable;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Logger
@@ -11,13 +14,19 @@ import java.time.format.DateTimeFormatter;
  * GitHub: https://github.com/luka5w/javautils
  *
  * @author Lukas // https://github.com/luka5w
- * @version 1.0.0
+ * @version 1.1.0
  */
-public class Logger {
+public class Logger implements Flushable {
     private final String name;
     private final Logger parent;
     private final int level;
 
+    private final LogMetrics metrics = LogMetrics.create();
+
+    private volatile LogThrottle throttle = null;
+    private volatile int debugSampling = 1;
+    private volatile int infoSampling = 1;
+
     /**
      * Creates a new root logger with a specific log level.
      *
@@ -121,13 +130,13 @@ public class Logger {
      * <p>The object will be parsed as String with {@link Object#toString()}</p>
      *
      * @param o The message to log.
-     * @param exit Whether the program should exit with status code -1 or not.
+     * @param exit Whether the program should exit with status code -1 or not. See {@link ShutdownCoordinator#exit(int)}.
      *
      * @since 1.0.0
      */
     public void error(Object o, boolean exit) {
         this.out('E', o.toString());
-        if (exit) System.exit(-1);
+        if (exit) ShutdownCoordinator.exit(-1);
     }
     /**
      * Logs an error message and an exception.
@@ -145,13 +154,129 @@ public class Logger {
      *
      * @param message The message to log.
      * @param e The exception.
-     * @param exit Whether the program should exit with status code -1 or not.
+     * @param exit Whether the program should exit with status code -1 or not. See {@link ShutdownCoordinator#exit(int)}.
      *
      * @since 1.0.0
      */
     public void exception(String message, Throwable e, boolean exit) {
         this.out('E', message + ": " + (e.getMessage() == null || e.getMessage().equals("") ? e.getClass().getName() : e.getMessage()));
-        if (exit) System.exit(-1);
+        if (exit) ShutdownCoordinator.exit(-1);
+    }
+
+    /**
+     * Limits each message (log-type and text) to a sustained rate.
+     *
+     * <p>Messages exceeding the rate are dropped and reported in the next summary.
+     * See {@link #setSuppressionSummaryInterval(long)}.</p>
+     *
+     * @param messagesPerSecond The sustained rate per message. 0 or lower disables rate limiting.
+     * @param burst The amount of times a message can be logged at once before the rate applies.
+     *
+     * @since 1.4.0
+     */
+    public void setRateLimit(double messagesPerSecond, int burst) {
+        this.throttle().setRateLimit(messagesPerSecond, burst);
+    }
+
+    /**
+     * Enables or disables the suppression of identical consecutive messages.
+     *
+     * <p>Suppressed duplicates are reported as "last message repeated N times"
+     * before the next different message or in the next summary.</p>
+     *
+     * @param suppressDuplicates Whether duplicates should be suppressed.
+     *
+     * @since 1.4.0
+     */
+    public void setDuplicateSuppression(boolean suppressDuplicates) {
+        this.throttle().setDuplicateSuppression(suppressDuplicates);
+    }
+
+    /**
+     * Sets the interval in which suppressed messages are summarized (default: 60 seconds).
+     *
+     * <p>The summary is written by the next message logged after the interval elapsed.</p>
+     *
+     * @param millis The interval in milliseconds.
+     *
+     * @since 1.4.0
+     */
+    public void setSuppressionSummaryInterval(long millis) {
+        this.throttle().setSummaryInterval(millis);
+    }
+
+    /**
+     * Writes a summary of all messages suppressed since the last summary.
+     *
+     * @since 1.4.0
+     */
+    public void summarizeSuppressed() {
+        LogThrottle throttle = this.throttle;
+        if (throttle != null) throttle.summarize();
+    }
+
+    /**
+     * Writes only every n-th debug or info message (chosen randomly) to reduce the output.
+     *
+     * @param level The level to sample (0: debug, 1: info).
+     * @param n On average, 1 in n messages will be written. 1 disables sampling.
+     *
+     * @since 1.4.0
+     */
+    public void setSampling(int level, int n) {
+        if (n < 1) throw new IllegalArgumentException("n must be 1 or higher");
+        if (level == 0) this.debugSampling = n;
+        else if (level == 1) this.infoSampling = n;
+        else throw new IndexOutOfBoundsException("only level 0 and 1 can be sampled");
+    }
+
+    /**
+     * Returns the counters of this logger (including its child-loggers).
+     *
+     * @return The counters.
+     *
+     * @since 1.4.0
+     */
+    public LogMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Registers the counters of this logger at the platform MBean server using the name of this logger.
+     *
+     * @throws JMException See {@link LogMetrics#register(String)}.
+     *
+     * @since 1.4.0
+     */
+    public void registerMBean() throws JMException {
+        this.metrics.register(this.name);
+    }
+
+    /**
+     * Writes the pending summary of suppressed messages.
+     *
+     * <p>Loggers with rate limiting or duplicate suppression are flushed by the {@link ShutdownCoordinator}.</p>
+     *
+     * @since 1.4.0
+     */
+    @Override
+    public void flush() {
+        this.summarizeSuppressed();
+    }
+
+    /**
+     * Returns the throttle of this logger and creates it when necessary.
+     *
+     * @return The throttle.
+     *
+     * @since 1.4.0
+     */
+    private synchronized LogThrottle throttle() {
+        if (this.throttle == null) {
+            this.throttle = new LogThrottle(this);
+            ShutdownCoordinator.register(this);
+        }
+        return this.throttle;
     }
 
     /**
@@ -170,7 +295,31 @@ public class Logger {
                 (type == 'W' && level > 3) ||
                 (type == 'E' && level > 4)
         ) return;
+        int sampling = type == 'D' ? this.debugSampling : type == 'I' ? this.infoSampling : 1;
+        if (sampling != 1 && ThreadLocalRandom.current().nextInt(sampling) != 0) {
+            this.metrics.sampled(type);
+            return;
+        }
+        LogThrottle throttle = this.throttle;
+        if (throttle != null && !throttle.admit(type, message)) {
+            this.metrics.suppressed(type);
+            return;
+        }
+        this.metrics.written(type);
+        this.write(type, message);
+    }
+
+    /**
+     * Writes a message without filtering it.
+     *
+     * @param type The log-type.
+     * @param message The message type.
+     *
+     * @since 1.4.0
+     */
+    void write(char type, String message) {
         if (this.parent == null) {
+            LogMetrics.global().written(type);
             System.out.println(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'hh:mm:ss.SSS")) + " [" + type + "] [" + this.name + "] " + message);
         }
         else {
@@ -5,19 +5,23 @@ import org.jetbrains.annotations.Nullable;
 import jdk.jfr.Experimental;
 
 import java.io.Console;
-import java.util.Scanner;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Prompt
  *
  * <p>Prompt user inputs in the commandline</p>
  *
+ * <p>All prompts read from the shared {@link LineInput}, which works on a console, a pipe or a list of answers
+ * (see {@link LineInput#set(LineInput)}).</p>
+ *
  * <p>Experimental: Only tested for Linux (Terminal)</p>
  *
  * GitHub: https://github.com/luka5w/javautils
  *
  * @author Lukas // https://github.com/luka5w
- * @version 1.0.0
+ * @version 1.1.0
  */
 @Experimental
 public class Prompt {
@@ -65,6 +69,7 @@ public class Prompt {
      * @return Whether the user selected yes or no.
      *
      * @throws TooMuchIterationException When the maxPrompts limit exceeded.
+     * @throws NoSuchElementException When the input ended.
      *
      * @since 1.0.0
      */
@@ -74,11 +79,10 @@ public class Prompt {
         if (no == null) no = NO;
         if (invalidInput == null) invalidInput = "please type 'y' or 'n' ";
 
-        Scanner scanner = new Scanner(System.in);
         if (question != null) System.out.print(question);
         for (int i = 0; i < maxPrompts; i++) {
             System.out.print(prefix);
-            String input = scanner.nextLine();
+            String input = readLine();
             if (input.equals(yes)) return true;
             if (input.equals(no)) return false;
             System.out.print(invalidInput);
@@ -87,27 +91,103 @@ public class Prompt {
         throw new TooMuchIterationException();
     }
 
+    /**
+     * Prompts the user with the option yes or no and uses a default answer when the user doesn't answer in time.
+     *
+     * @param question The question the prompt is about.
+     * @param timeoutMillis The time to wait for the answer in milliseconds.
+     * @param def The answer when the user doesn't answer in time or the input ended.
+     * @return Whether the user selected yes or no.
+     *
+     * @throws TooMuchIterationException When the user submitted wrong inputs #MAX_PROMPTS times.
+     *
+     * @since 1.4.0
+     */
+    public static boolean promptYN(@Nullable String question, long timeoutMillis, boolean def) {
+        if (question != null) System.out.print(question);
+        for (int i = 0; i < MAX_PROMPTS; i++) {
+            System.out.print("[y|n] > ");
+            String input;
+            try {
+                input = LineInput.get().readLine(timeoutMillis);
+            }
+            catch (TimeoutException e) {
+                System.out.println();
+                return def;
+            }
+            if (input == null) return def;
+            if (input.equals(YES)) return true;
+            if (input.equals(NO)) return false;
+            System.out.print("please type 'y' or 'n' ");
+        }
+
+        throw new TooMuchIterationException();
+    }
+
     /**
      * Prompts the user with undefined options.
      *
      * @param prefix The prefix before the 'cursor'.
      * @return The line, the user submitted.
      *
+     * @throws NoSuchElementException When the input ended.
+     *
      * @since 1.0.0
      */
     public static String prompt(String prefix) {
-        return System.console().readLine(prefix);
+        System.out.print(prefix);
+        return readLine();
+    }
+
+    /**
+     * Prompts the user with undefined options and uses a default answer when the user doesn't answer in time.
+     *
+     * @param prefix The prefix before the 'cursor'.
+     * @param timeoutMillis The time to wait for the answer in milliseconds.
+     * @param def The answer when the user doesn't answer in time or the input ended.
+     * @return The line, the user submitted.
+     *
+     * @since 1.4.0
+     */
+    public static String prompt(String prefix, long timeoutMillis, String def) {
+        System.out.print(prefix);
+        try {
+            String input = LineInput.get().readLine(timeoutMillis);
+            return input == null ? def : input;
+        }
+        catch (TimeoutException e) {
+            System.out.println();
+            return def;
+        }
     }
 
     /**
      * Prompts a password from the user.
+     * <br />
+     * <br />
+     * The password is only hidden when it is read from the console.
      *
      * @param prefix The prefix before the 'cursor'.
      * @return The line, the user submitted.
      *
+     * @throws NoSuchElementException When the input ended.
+     *
      * @since 1.0.0
      */
     public static String promptPassword(String prefix) {
-        return new String(System.console().readPassword(prefix));
+        LineInput input = LineInput.get();
+        Console console = System.console();
+        if (console != null && input.isConsole() && input.isIdle()) {
+            char[] password = console.readPassword(prefix);
+            if (password == null) throw new NoSuchElementException("end of input");
+            return new String(password);
+        }
+        return prompt(prefix);
+    }
+
+    private static String readLine() {
+        String line = LineInput.get().readLine();
+        if (line == null) throw new NoSuchElementException("end of input");
+        return line;
     }
 }
@@ -0,0 +1,148 @@
+package com.github.luka5w.util.cli;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/**
+ * ShutdownCoordinator
+ *
+ * <p>Flushes all registered buffers (e.g. of loggers) before the program exits.</p>
+ *
+ * <p>Programs should exit with {@link #exit(int)} instead of {@link System#exit(int)},
+ * otherwise buffered or asynchronously written output may get lost.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public class ShutdownCoordinator {
+    private static final List<Flushable> FLUSHABLES = new CopyOnWriteArrayList<>();
+    private static final ThreadLocal<IntConsumer> EXIT_INTERCEPTOR = new ThreadLocal<>();
+
+    private static volatile long deadline = 5000;
+    private static volatile long lastFlushNanos = -1;
+
+    /**
+     * Registers a buffer which will be flushed before the program exits.
+     *
+     * @param flushable The buffer.
+     *
+     * @since 1.4.0
+     */
+    public static void register(Flushable flushable) {
+        if (!FLUSHABLES.contains(flushable)) FLUSHABLES.add(flushable);
+    }
+
+    /**
+     * Unregisters a buffer.
+     *
+     * @param flushable The buffer.
+     *
+     * @since 1.4.0
+     */
+    public static void unregister(Flushable flushable) {
+        FLUSHABLES.remove(flushable);
+    }
+
+    /**
+     * Sets the maximal time the flush may take before the program exits anyway (default: 5 seconds).
+     *
+     * @param millis The deadline in milliseconds.
+     *
+     * @since 1.4.0
+     */
+    public static void setDeadline(long millis) {
+        if (millis <= 0) throw new IllegalArgumentException("deadline must be positive");
+        deadline = millis;
+    }
+
+    /**
+     * Returns how long the last flush took.
+     *
+     * @return The duration in nanoseconds or -1 when nothing was flushed yet.
+     *
+     * @since 1.4.0
+     */
+    public static long getLastFlushNanos() {
+        return lastFlushNanos;
+    }
+
+    /**
+     * Flushes all registered buffers and {@link System#out} and {@link System#err}.
+     *
+     * <p>The buffers are flushed by a separate thread, so a blocking buffer can't delay the exit longer than the deadline.</p>
+     *
+     * @return Whether all buffers were flushed within the deadline.
+     *
+     * @since 1.4.0
+     */
+    public static boolean flush() {
+        long start = System.nanoTime();
+        Thread flusher = new Thread(() -> {
+            for (Flushable flushable : FLUSHABLES) {
+                try {
+                    flushable.flush();
+                }
+                catch (IOException | RuntimeException e) {
+                    System.err.println("can't flush " + flushable + ": " + e.getMessage());
+                }
+            }
+            System.out.flush();
+            System.err.flush();
+        }, "shutdown-flush");
+        flusher.setDaemon(true);
+        flusher.start();
+        try {
+            flusher.join(deadline);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lastFlushNanos = System.nanoTime() - start;
+        return !flusher.isAlive();
+    }
+
+    /**
+     * Sets the interceptor for {@link #exit(int)} calls of the current thread.
+     *
+     * <p>An intercepted exit doesn't stop the JVM, it passes the status code to the interceptor instead.
+     * The interceptor should throw an unchecked exception or error to unwind the caller (e.g. for running a program
+     * multiple times in the same JVM), otherwise {@link #exit(int)} returns normally.
+     * Threads created by the current thread don't inherit the interceptor, pooled threads would keep it.</p>
+     *
+     * @param interceptor The interceptor or null to remove it.
+     *
+     * @since 1.4.0
+     */
+    public static void setExitInterceptor(IntConsumer interceptor) {
+        if (interceptor == null) EXIT_INTERCEPTOR.remove();
+        else EXIT_INTERCEPTOR.set(interceptor);
+    }
+
+    /**
+     * Flushes all registered buffers and exits the program with the passed status code.
+     *
+     * <p>When an interceptor is set for the current thread, the status code is passed to it instead.
+     * See {@link #setExitInterceptor(IntConsumer)}.</p>
+     *
+     * @see #flush()
+     *
+     * @param status The status code with which the program should exit.
+     *
+     * @since 1.4.0
+     */
+    public static void exit(int status) {
+        if (!flush()) System.err.println("flush timed out after " + TimeUnit.NANOSECONDS.toMillis(lastFlushNanos) + " ms");
+        IntConsumer interceptor = EXIT_INTERCEPTOR.get();
+        if (interceptor != null) {
+            interceptor.accept(status);
+            return;
+        }
+        System.exit(status);
+    }
+}
@@ -0,0 +1,360 @@
+package com.github.luka5w.util.data;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * CompressedStreams
+ *
+ * <p>The gzip and zlib streams of {@link FileUtils}.</p>
+ *
+ * <p>Unlike {@link java.util.zip.GZIPOutputStream} and {@link java.util.zip.GZIPInputStream},
+ * which create and end a native {@link Deflater} or {@link Inflater} per stream,
+ * these streams take them from a pool and return them on close.
+ * The gzip header and trailer are written and checked by the streams, the deflate data is raw.
+ * Both use 64 KiB buffers.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+final class CompressedStreams {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_IDLE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+    private static final int GZIP_MAGIC = 0x8B1F;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private static final Pool<Deflater> DEFLATERS = new Pool<>();
+    private static final Pool<Deflater> RAW_DEFLATERS = new Pool<>();
+    private static final Pool<Inflater> INFLATERS = new Pool<>();
+    private static final Pool<Inflater> RAW_INFLATERS = new Pool<>();
+
+    private CompressedStreams() {}
+
+    /**
+     * Returns whether the first two bytes of a stream are the gzip magic number.
+     *
+     * @param b0 The first byte.
+     * @param b1 The second byte.
+     * @return Whether the stream is gzip compressed.
+     *
+     * @since 1.4.0
+     */
+    static boolean isGzip(int b0, int b1) {
+        return (b0 | b1 << 8) == GZIP_MAGIC;
+    }
+
+    /**
+     * Checks a compression level.
+     *
+     * @param level The level of {@link Deflater}.
+     *
+     * @throws IllegalArgumentException When the level isn't 0 up to 9 or -1.
+     *
+     * @since 1.4.0
+     */
+    static void checkLevel(int level) {
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) throw new IllegalArgumentException("level must be -1 up to 9");
+    }
+
+    /**
+     * Creates a stream compressing data.
+     *
+     * @param out The stream to write the compressed data to (closed with the returned stream).
+     * @param compression The compression ({@link Compression#GZIP} or {@link Compression#DEFLATE}).
+     * @param level The level of {@link Deflater} (0 (none) up to 9 (best compression) or -1 (default)).
+     * @return The stream.
+     *
+     * @throws IOException When the gzip header can't be written.
+     * @throws IllegalArgumentException When the level is invalid.
+     *
+     * @since 1.4.0
+     */
+    static OutputStream compress(OutputStream out, Compression compression, int level) throws IOException {
+        checkLevel(level);
+        return new DeflateOutputStream(out, compression == Compression.GZIP, level);
+    }
+
+    /**
+     * Creates a stream decompressing data.
+     *
+     * @param in The stream to read the compressed data from (closed with the returned stream).
+     * @param compression The compression ({@link Compression#GZIP} or {@link Compression#DEFLATE}).
+     * @return The stream.
+     *
+     * @throws IOException When the gzip header is invalid.
+     *
+     * @since 1.4.0
+     */
+    static InputStream decompress(InputStream in, Compression compression) throws IOException {
+        return new InflateInputStream(in, compression == Compression.GZIP);
+    }
+
+    private static final class DeflateOutputStream extends OutputStream {
+        private final OutputStream out;
+        private final boolean gzip;
+        private final Deflater deflater;
+        private final CRC32 crc;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+
+        private boolean closed = false;
+
+        private DeflateOutputStream(OutputStream out, boolean gzip, int level) throws IOException {
+            this.out = out;
+            this.gzip = gzip;
+            Deflater deflater = (gzip ? RAW_DEFLATERS : DEFLATERS).poll();
+            this.deflater = deflater != null ? deflater : new Deflater(level, gzip);
+            this.deflater.setLevel(level);
+            this.crc = gzip ? new CRC32() : null;
+            if (gzip) {
+                // magic, CM = deflate, FLG = 0, MTIME = 0, XFL = 0, OS = unknown
+                out.write(new byte[] { (byte) GZIP_MAGIC, (byte) (GZIP_MAGIC >> 8), Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 255 });
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            this.write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (this.closed) throw new IOException("stream closed");
+            if (len == 0) return;
+            if (this.gzip) this.crc.update(b, off, len);
+            this.deflater.setInput(b, off, len);
+            while (!this.deflater.needsInput()) this.deflate(Deflater.NO_FLUSH);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (this.closed) return;
+            this.deflate(Deflater.SYNC_FLUSH);
+            this.out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (this.closed) return;
+            this.closed = true;
+            try {
+                this.deflater.finish();
+                while (!this.deflater.finished()) this.deflate(Deflater.NO_FLUSH);
+                if (this.gzip) {
+                    // CRC32 and ISIZE (little-endian)
+                    int crc = (int) this.crc.getValue();
+                    int size = (int) this.deflater.getBytesRead();
+                    this.out.write(new byte[] {
+                            (byte) crc, (byte) (crc >>> 8), (byte) (crc >>> 16), (byte) (crc >>> 24),
+                            (byte) size, (byte) (size >>> 8), (byte) (size >>> 16), (byte) (size >>> 24)
+                    });
+                }
+            }
+            finally {
+                this.deflater.reset();
+                (this.gzip ? RAW_DEFLATERS : DEFLATERS).release(this.deflater);
+                this.out.close();
+            }
+        }
+
+        private void deflate(int flush) throws IOException {
+            int n;
+            do {
+                n = this.deflater.deflate(this.buffer, 0, this.buffer.length, flush);
+                if (n > 0) this.out.write(this.buffer, 0, n);
+            }
+            // a full buffer may have more output pending
+            while (n == this.buffer.length);
+        }
+    }
+
+    private static final class InflateInputStream extends InputStream {
+        private final InputStream in;
+        private final boolean gzip;
+        private final Inflater inflater;
+        private final CRC32 crc;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+
+        private int position = 0;
+        private int limit = 0;
+        private boolean eof = false;
+        private boolean closed = false;
+
+        private InflateInputStream(InputStream in, boolean gzip) throws IOException {
+            this.in = in;
+            this.gzip = gzip;
+            Inflater inflater = (gzip ? RAW_INFLATERS : INFLATERS).poll();
+            this.inflater = inflater != null ? inflater : new Inflater(gzip);
+            this.crc = gzip ? new CRC32() : null;
+            if (gzip) {
+                try {
+                    this.readHeader();
+                }
+                catch (IOException e) {
+                    this.close();
+                    throw e;
+                }
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return this.read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (this.closed) throw new IOException("stream closed");
+            if (len == 0) return 0;
+            while (!this.eof) {
+                if (this.inflater.finished()) {
+                    this.endOfMember();
+                    continue;
+                }
+                if (this.inflater.needsInput()) {
+                    if (this.position == this.limit && !this.fill()) throw new EOFException("unexpected end of compressed data");
+                    this.inflater.setInput(this.buffer, this.position, this.limit - this.position);
+                    this.position = this.limit;
+                }
+                if (this.inflater.needsDictionary()) throw new ZipException("compressed data needs a dictionary");
+                int n;
+                try {
+                    n = this.inflater.inflate(b, off, len);
+                }
+                catch (DataFormatException e) {
+                    throw new ZipException(e.getMessage() != null ? e.getMessage() : "invalid compressed data");
+                }
+                if (n > 0) {
+                    if (this.gzip) this.crc.update(b, off, n);
+                    return n;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return this.eof ? 0 : 1;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (this.closed) return;
+            this.closed = true;
+            this.inflater.reset();
+            (this.gzip ? RAW_INFLATERS : INFLATERS).release(this.inflater);
+            this.in.close();
+        }
+
+        /**
+         * Checks the gzip trailer and starts the next member of concatenated gzip data.
+         */
+        private void endOfMember() throws IOException {
+            // the input not consumed by the inflater is still in the buffer
+            this.position = this.limit - this.inflater.getRemaining();
+            if (!this.gzip) {
+                this.eof = true;
+                return;
+            }
+            if (this.readIntLE() != (int) this.crc.getValue()) throw new ZipException("corrupt gzip data (crc mismatch)");
+            if (this.readIntLE() != (int) this.inflater.getBytesWritten()) throw new ZipException("corrupt gzip data (size mismatch)");
+            int b0 = this.readByte();
+            if (b0 < 0) {
+                this.eof = true;
+                return;
+            }
+            this.position--;
+            this.inflater.reset();
+            this.crc.reset();
+            this.readHeader();
+        }
+
+        private void readHeader() throws IOException {
+            if (!isGzip(this.readRequiredByte(), this.readRequiredByte())) throw new ZipException("not in gzip format");
+            if (this.readRequiredByte() != Deflater.DEFLATED) throw new ZipException("unsupported gzip compression method");
+            int flags = this.readRequiredByte();
+            // MTIME, XFL, OS
+            this.skip(6);
+            if ((flags & FEXTRA) != 0) this.skip(this.readRequiredByte() | this.readRequiredByte() << 8);
+            if ((flags & FNAME) != 0) this.skipString();
+            if ((flags & FCOMMENT) != 0) this.skipString();
+            if ((flags & FHCRC) != 0) this.skip(2);
+        }
+
+        private void skip(int n) throws IOException {
+            for (int i = 0; i < n; i++) this.readRequiredByte();
+        }
+
+        private void skipString() throws IOException {
+            while (this.readRequiredByte() != 0);
+        }
+
+        private int readIntLE() throws IOException {
+            return this.readRequiredByte() | this.readRequiredByte() << 8 | this.readRequiredByte() << 16 | this.readRequiredByte() << 24;
+        }
+
+        /**
+         * Reads a byte of the gzip header or trailer.
+         *
+         * @return The byte or -1 at the end of the stream.
+         */
+        private int readByte() throws IOException {
+            if (this.position == this.limit && !this.fill()) return -1;
+            return this.buffer[this.position++] & 0xFF;
+        }
+
+        private int readRequiredByte() throws IOException {
+            int b = this.readByte();
+            if (b < 0) throw new EOFException("unexpected end of gzip data");
+            return b;
+        }
+
+        private boolean fill() throws IOException {
+            int n = this.in.read(this.buffer, 0, this.buffer.length);
+            if (n <= 0) return false;
+            this.position = 0;
+            this.limit = n;
+            return true;
+        }
+    }
+
+    /**
+     * A bounded pool of idle deflaters or inflaters.
+     */
+    private static final class Pool<T> {
+        private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        private T poll() {
+            T t = this.idle.poll();
+            if (t != null) this.size.decrementAndGet();
+            return t;
+        }
+
+        private void release(T t) {
+            if (this.size.incrementAndGet() > MAX_IDLE) {
+                this.size.decrementAndGet();
+                // the native memory is freed by ending it
+                if (t instanceof Deflater) ((Deflater) t).end();
+                else ((Inflater) t).end();
+                return;
+            }
+            this.idle.offer(t);
+        }
+    }
+}
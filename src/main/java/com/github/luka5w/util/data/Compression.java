@@ -0,0 +1,57 @@
+package com.github.luka5w.util.data;
+
+import java.io.File;
+
+/**
+ * Compression
+ *
+ * <p>An enum to specify the compression of a file for the compressed methods of {@link FileUtils}.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public enum Compression {
+    NONE(""),
+    GZIP(".gz"),
+    DEFLATE(".deflate");
+
+    private final String extension;
+
+    Compression(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Returns the file name extension of this compression.
+     *
+     * @return The extension including the dot (empty for {@link #NONE}).
+     *
+     * @since 1.4.0
+     */
+    public String getExtension() {
+        return this.extension;
+    }
+
+    /**
+     * Returns the compression of a file by the extension of its name.
+     *
+     * <ul>
+     *     <li>.gz: {@link #GZIP}</li>
+     *     <li>.deflate: {@link #DEFLATE} (zlib format)</li>
+     *     <li>anything else: {@link #NONE}</li>
+     * </ul>
+     *
+     * @param file The file.
+     * @return The compression.
+     *
+     * @since 1.4.0
+     */
+    public static Compression of(File file) {
+        String name = file.getName();
+        if (name.endsWith(GZIP.extension)) return GZIP;
+        if (name.endsWith(DEFLATE.extension)) return DEFLATE;
+        return NONE;
+    }
+}
@@ -10,9 +10,10 @@ import java.io.*;
  * GitHub: https://github.com/luka5w/javautils
  *
  * @author Lukas // https://github.com/luka5w
- * @version 1.0.0
+ * @version 1.1.0
  */
 public class FileUtils {
+    private static final int BUFFER_SIZE = 1 << 16;
 
     /**
      * Erases the content of a file.
@@ -109,4 +110,117 @@ public class FileUtils {
         }
         return sb.toString();
     }
+
+    /**
+     * Reads data from a file which may be compressed.
+     *
+     * <p>The compression is detected by the extension of the file name (see {@link Compression#of(File)}).
+     * Files without a known extension are read as gzip when they start with the gzip magic number.
+     * Like {@link #read(File)}, the default charset is used.</p>
+     *
+     * @param file The file to read.
+     * @return The (decompressed) data stored in a file.
+     *
+     * @throws IOException When a file operation went wrong or the compressed data is invalid.
+     *
+     * @since 1.4.0
+     */
+    public static String readCompressed(File file) throws IOException {
+        try (Reader reader = new InputStreamReader(openCompressedInput(file))) {
+            StringBuilder sb = new StringBuilder();
+            char[] buffer = new char[8192];
+            int n;
+            while ((n = reader.read(buffer)) != -1) sb.append(buffer, 0, n);
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Writes data to a file and compresses it by the extension of the file name (see {@link Compression#of(File)}).
+     *
+     * <p>Like {@link #write(File, String)}, the default charset is used.</p>
+     *
+     * @param file The file to write to.
+     * @param content The content to write.
+     * @param level The compression level: 1 (best speed) up to 9 (best compression), 0 (no compression) or -1 (default).
+     *
+     * @throws IOException When a file operation went wrong.
+     * @throws IllegalArgumentException When the level is invalid.
+     *
+     * @since 1.4.0
+     */
+    public static void writeCompressed(File file, String content, int level) throws IOException {
+        try (Writer writer = new OutputStreamWriter(openCompressedOutput(file, level))) {
+            writer.write(content);
+        }
+    }
+
+    /**
+     * Opens a stream reading a file which may be compressed, e.g. to read data larger than memory.
+     * See {@link #readCompressed(File)}.
+     *
+     * @param file The file to read.
+     * @return The (buffered) stream of the decompressed data.
+     *
+     * @throws IOException When a file operation went wrong or the gzip header is invalid.
+     *
+     * @since 1.4.0
+     */
+    public static InputStream openCompressedInput(File file) throws IOException {
+        Compression compression = Compression.of(file);
+        InputStream in = new FileInputStream(file);
+        if (compression == Compression.NONE) {
+            in = new BufferedInputStream(in, BUFFER_SIZE);
+            in.mark(2);
+            int b0 = in.read();
+            int b1 = in.read();
+            in.reset();
+            if (!CompressedStreams.isGzip(b0, b1)) return in;
+            compression = Compression.GZIP;
+        }
+        return new BufferedInputStream(CompressedStreams.decompress(in, compression), BUFFER_SIZE);
+    }
+
+    /**
+     * Opens a stream writing to a file and compresses it by the extension of the file name (see {@link Compression#of(File)}),
+     * e.g. to write data larger than memory.
+     *
+     * @param file The file to write to.
+     * @param level The compression level: 1 (best speed) up to 9 (best compression), 0 (no compression) or -1 (default).
+     * @return The (buffered) stream. The data is complete when the stream is closed.
+     *
+     * @throws IOException When a file operation went wrong.
+     * @throws IllegalArgumentException When the level is invalid.
+     *
+     * @since 1.4.0
+     */
+    public static OutputStream openCompressedOutput(File file, int level) throws IOException {
+        return openCompressedOutput(file, Compression.of(file), level);
+    }
+
+    /**
+     * Opens a stream writing to a file with a specific compression, e.g. to write data larger than memory.
+     *
+     * @param file The file to write to.
+     * @param compression The compression.
+     * @param level The compression level: 1 (best speed) up to 9 (best compression), 0 (no compression) or -1 (default).
+     * @return The (buffered) stream. The data is complete when the stream is closed.
+     *
+     * @throws IOException When a file operation went wrong.
+     * @throws IllegalArgumentException When the level is invalid.
+     *
+     * @since 1.4.0
+     */
+    public static OutputStream openCompressedOutput(File file, Compression compression, int level) throws IOException {
+        CompressedStreams.checkLevel(level);
+        OutputStream out = new FileOutputStream(file);
+        if (compression == Compression.NONE) return new BufferedOutputStream(out, BUFFER_SIZE);
+        try {
+            return new BufferedOutputStream(CompressedStreams.compress(out, compression, level), BUFFER_SIZE);
+        }
+        catch (IOException e) {
+            out.close();
+            throw e;
+        }
+    }
 }
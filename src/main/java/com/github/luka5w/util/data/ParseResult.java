@@ -0,0 +1,94 @@
+package com.github.luka5w.util.data;
+
+/**
+ * ParseResult
+ *
+ * <p>The reusable result of the parsers of {@link ParseUtils}.</p>
+ *
+ * <p>A result holds either a value (as long, booleans are 1 or 0) or the index of the invalid char.
+ * Reuse one instance per thread to parse without allocations.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public final class ParseResult {
+    private boolean valid = false;
+    private long value = 0;
+    private int errorIndex = -1;
+
+    /**
+     * Returns whether the last parsed input was valid.
+     *
+     * @return Whether the input was valid.
+     *
+     * @since 1.4.0
+     */
+    public boolean isValid() {
+        return this.valid;
+    }
+
+    /**
+     * Returns the parsed value.
+     *
+     * @return The value (booleans are 1 or 0, durations are nanoseconds, sizes are bytes) or 0 when the input was invalid.
+     *
+     * @since 1.4.0
+     */
+    public long getLong() {
+        return this.value;
+    }
+
+    /**
+     * Returns the parsed value as int.
+     *
+     * @return The value or 0 when the input was invalid.
+     *
+     * @since 1.4.0
+     */
+    public int getInt() {
+        return (int) this.value;
+    }
+
+    /**
+     * Returns the parsed value as boolean.
+     *
+     * @return The value or false when the input was invalid.
+     *
+     * @since 1.4.0
+     */
+    public boolean getBoolean() {
+        return this.value != 0;
+    }
+
+    /**
+     * Returns the index of the invalid char.
+     *
+     * @return The index in the input or -1 when the input was valid.
+     *
+     * @since 1.4.0
+     */
+    public int getErrorIndex() {
+        return this.errorIndex;
+    }
+
+    boolean success(long value) {
+        this.valid = true;
+        this.value = value;
+        this.errorIndex = -1;
+        return true;
+    }
+
+    boolean fail(int errorIndex) {
+        this.valid = false;
+        this.value = 0;
+        this.errorIndex = errorIndex;
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return this.valid ? String.valueOf(this.value) : "invalid (err at pos " + this.errorIndex + ")";
+    }
+}
@@ -0,0 +1,340 @@
+package com.github.luka5w.util.data;
+
+/**
+ * ParseUtils
+ *
+ * <p>Parsers for booleans, ints, longs, durations and sizes in ranges of chars or (ASCII) bytes.</p>
+ *
+ * <p>The parsers don't throw exceptions and don't allocate: they return whether the input was valid
+ * and write the value or the index of the invalid char to a reusable {@link ParseResult}.
+ * So values can be parsed directly from a line of a file or a buffer without creating substrings.</p>
+ *
+ * <ul>
+ *     <li>Booleans: true/false, yes/no, on/off (case-insensitive), 1/0.</li>
+ *     <li>Ints and longs: decimal with optional sign.</li>
+ *     <li>Durations: a number followed by an optional unit: ns, us, ms, s, m, h, d (default: ms), e.g. 500ms or 10 s.
+ *     The value is in nanoseconds.</li>
+ *     <li>Sizes: a number followed by an optional unit: b, k/kb/kib, m/mb/mib, g/gb/gib, t/tb/tib (case-insensitive, default: b),
+ *     e.g. 512m or 64 KiB. All units are binary (k = 1024). The value is in bytes.</li>
+ * </ul>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public class ParseUtils {
+    private static final String[] DURATION_UNITS = { "", "ns", "us", "ms", "s", "m", "h", "d" };
+    private static final long[] DURATION_SCALES = { 1000_000L, 1L, 1000L, 1000_000L, 1000_000_000L, 60 * 1000_000_000L, 60 * 60 * 1000_000_000L, 24 * 60 * 60 * 1000_000_000L };
+    private static final String[] SIZE_UNITS = { "", "b", "k", "kb", "kib", "m", "mb", "mib", "g", "gb", "gib", "t", "tb", "tib" };
+    private static final long[] SIZE_SCALES = { 1L, 1L, 1L << 10, 1L << 10, 1L << 10, 1L << 20, 1L << 20, 1L << 20, 1L << 30, 1L << 30, 1L << 30, 1L << 40, 1L << 40, 1L << 40 };
+
+    /**
+     * Parses a boolean.
+     *
+     * @param s The chars.
+     * @param result The result.
+     * @return Whether the chars are a boolean.
+     *
+     * @since 1.4.0
+     */
+    public static boolean parseBoolean(CharSequence s, ParseResult result) {
+        return bool(s, 0, s.length(), result);
+    }
+
+    /**
+     * Parses a boolean.
+     *
+     * @param s The chars.
+     * @param start The index of the first char.
+     * @param end The index after the last char.
+     * @param result The result.
+     * @return Whether the chars are a boolean.
+     *
+     * @since 1.4.0
+     */
+    public static boolean parseBoolean(CharSequence s, int start, int end, ParseResult result) {
+        return bool(s, start, end, result);
+    }
+
+    /**
+     * Parses a boolean.
+     *
+     * @param b The bytes (ASCII).
+     * @param start The index of the first byte.
+     * @param end The index after the last byte.
+     * @param result The result.
+     * @return Whether the bytes are a boolean.
+     *
+     * @since 1.4.0
+     */
+    public static boolean parseBoolean(byte[] b, int start, int end, ParseResult result) {
+        return bool(b, start, end, result);
+    }
+
+    /**
+     * Parses an int.
+     *
+     * @param s The chars.
+     * @param result The result.
+     * @return Whether the chars are an int.
+     *
+     * @since 1.4.0
+     */
+    public static boolean parseInt(CharSequence s, ParseResult result) {
+        return number(s, 0, s.length(), Integer.MIN_VALUE, Integer.MAX_VALUE, result);
+    }
+
+    /**
+     * Parses an int.
+     *
+     * @param s The chars.
+     * @param start The index of the first char.
+     * @param end The index after the last char.
+     * @param result The result.
+     * @return Whether the chars are an int.
+     *
+     * @since 1.4.0
+     */
+    public static boolean parseInt(CharSequence s, int start, int end, ParseResult result) {
+        return number(s, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE, result);
+    }
+
+    /**
+     * Parses an int.
+     *
+     * @param b The bytes (ASCII).
+     * @param start The index of the first byte.
+     * @param end The index after the last byte.
+     * @param result The result.
+     * @return Whether the bytes are an int.
+     *
+     * @since 1.4.0
+     */
+    public static boolean parseInt(byte[] b, int start, int end, ParseResult result) {
+        return number(b, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE, result);
+    }
+
+    /**
+     * Parses a long.
+     *
+     * @param s The chars.
+     * @param result The result.
+     * @return Whether the chars are a long.
+     *
+     * @since 1.4.0
+     */
+    public static boolean parseLong(CharSequence s, ParseResult result) {
+        return number(s, 0, s.length(), Long.MIN_VALUE, Long.MAX_VALUE, result);
+    }
+
+    /**
+     * Parses a long.
+     *
+     * @param s The chars.
+     * @param start The index of the first char.
+     * @param end The index after the last char.
+     * @param result The result.
+     * @return Whether the chars are a long.
+     *
+     * @since 1.4.0
+     */
+    public static boolean parseLong(CharSequence s, int start, int end, ParseResult result) {
+        return number(s, start, end, Long.MIN_VALUE, Long.MAX_VALUE, result);
+    }
+
+    /**
+     * Parses a long.
+     *
+     * @param b The bytes (ASCII).
+     * @param start The index of the first byte.
+     * @param end The index after the last byte.
+     * @param result The result.
+     * @return Whether the bytes are a long.
+     *
+     * @since 1.4.0
+     */
+    public static boolean parseLong(byte[] b, int start, int end, ParseResult result) {
+        return number(b, start, end, Long.MIN_VALUE, Long.MAX_VALUE, result);
+    }
+
+    /**
+     * Parses a duration.
+     *
+     * @param s The chars.
+     * @param result The result (in nanoseconds).
+     * @return Whether the chars are a duration.
+     *
+     * @since 1.4.0
+     */
+    public static boolean parseDuration(CharSequence s, ParseResult result) {
+        return scaled(s, 0, s.length(), DURATION_UNITS, DURATION_SCALES, result);
+    }
+
+    /**
+     * Parses a duration.
+     *
+     * @param s The chars.
+     * @param start The index of the first char.
+     * @param end The index after the last char.
+     * @param result The result (in nanoseconds).
+     * @return Whether the chars are a duration.
+     *
+     * @since 1.4.0
+     */
+    public static boolean parseDuration(CharSequence s, int start, int end, ParseResult result) {
+        return scaled(s, start, end, DURATION_UNITS, DURATION_SCALES, result);
+    }
+
+    /**
+     * Parses a duration.
+     *
+     * @param b The bytes (ASCII).
+     * @param start The index of the first byte.
+     * @param end The index after the last byte.
+     * @param result The result (in nanoseconds).
+     * @return Whether the bytes are a duration.
+     *
+     * @since 1.4.0
+     */
+    public static boolean parseDuration(byte[] b, int start, int end, ParseResult result) {
+        return scaled(b, start, end, DURATION_UNITS, DURATION_SCALES, result);
+    }
+
+    /**
+     * Parses a size.
+     *
+     * @param s The chars.
+     * @param result The result (in bytes).
+     * @return Whether the chars are a size.
+     *
+     * @since 1.4.0
+     */
+    public static boolean parseSize(CharSequence s, ParseResult result) {
+        return scaled(s, 0, s.length(), SIZE_UNITS, SIZE_SCALES, result);
+    }
+
+    /**
+     * Parses a size.
+     *
+     * @param s The chars.
+     * @param start The index of the first char.
+     * @param end The index after the last char.
+     * @param result The result (in bytes).
+     * @return Whether the chars are a size.
+     *
+     * @since 1.4.0
+     */
+    public static boolean parseSize(CharSequence s, int start, int end, ParseResult result) {
+        return scaled(s, start, end, SIZE_UNITS, SIZE_SCALES, result);
+    }
+
+    /**
+     * Parses a size.
+     *
+     * @param b The bytes (ASCII).
+     * @param start The index of the first byte.
+     * @param end The index after the last byte.
+     * @param result The result (in bytes).
+     * @return Whether the bytes are a size.
+     *
+     * @since 1.4.0
+     */
+    public static boolean parseSize(byte[] b, int start, int end, ParseResult result) {
+        return scaled(b, start, end, SIZE_UNITS, SIZE_SCALES, result);
+    }
+
+    /**
+     * Returns the char at an index of chars or bytes.
+     */
+    private static char at(Object s, int index) {
+        return s instanceof CharSequence ? ((CharSequence) s).charAt(index) : (char) (((byte[]) s)[index] & 0xFF);
+    }
+
+    private static boolean bool(Object s, int start, int end, ParseResult result) {
+        switch (end - start) {
+            case 1:
+                char c = at(s, start);
+                if (c == '1') return result.success(1);
+                if (c == '0') return result.success(0);
+                break;
+            case 2:
+                if (matches(s, start, end, "on")) return result.success(1);
+                if (matches(s, start, end, "no")) return result.success(0);
+                break;
+            case 3:
+                if (matches(s, start, end, "yes")) return result.success(1);
+                if (matches(s, start, end, "off")) return result.success(0);
+                break;
+            case 4:
+                if (matches(s, start, end, "true")) return result.success(1);
+                break;
+            case 5:
+                if (matches(s, start, end, "false")) return result.success(0);
+                break;
+        }
+        return result.fail(start);
+    }
+
+    /**
+     * Parses a signed decimal number within [min, max].
+     */
+    private static boolean number(Object s, int start, int end, long min, long max, ParseResult result) {
+        if (start >= end) return result.fail(start);
+        int i = start;
+        char c = at(s, i);
+        boolean negative = c == '-';
+        if (negative || c == '+') {
+            if (++i == end) return result.fail(i);
+        }
+        // accumulate negatively, so min can be parsed
+        long limit = negative ? min : -max;
+        long multmin = limit / 10;
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = at(s, i) - '0';
+            if (digit < 0 || digit > 9 || value < multmin) return result.fail(i);
+            value *= 10;
+            if (value < limit + digit) return result.fail(i);
+            value -= digit;
+        }
+        return result.success(negative ? value : -value);
+    }
+
+    /**
+     * Parses an unsigned decimal number followed by an optional unit.
+     */
+    private static boolean scaled(Object s, int start, int end, String[] units, long[] scales, ParseResult result) {
+        int i = start;
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = at(s, i) - '0';
+            if (digit < 0 || digit > 9) break;
+            if (value > (Long.MAX_VALUE - digit) / 10) return result.fail(i);
+            value = value * 10 + digit;
+        }
+        if (i == start) return result.fail(start);
+        int unit = i;
+        while (unit < end && (at(s, unit) == ' ' || at(s, unit) == '\t')) unit++;
+        for (int k = 0; k < units.length; k++) {
+            if (units[k].length() == end - unit && matches(s, unit, end, units[k])) {
+                if (value > Long.MAX_VALUE / scales[k]) return result.fail(start);
+                return result.success(value * scales[k]);
+            }
+        }
+        return result.fail(unit);
+    }
+
+    /**
+     * Returns whether chars equal a lower case String, ignoring the case of ASCII letters.
+     */
+    private static boolean matches(Object s, int start, int end, String lower) {
+        if (end - start != lower.length()) return false;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = at(s, start + i);
+            if (c >= 'A' && c <= 'Z') c += 'a' - 'A';
+            if (c != lower.charAt(i)) return false;
+        }
+        return true;
+    }
+}
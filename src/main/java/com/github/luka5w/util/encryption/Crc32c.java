@@ -0,0 +1,86 @@
+package com.github.luka5w.util.encryption;
+
+import java.nio.ByteBuffer;
+import java.util.zip.Checksum;
+
+/**
+ * Crc32c
+ *
+ * <p>CRC-32C (Castagnoli), used by {@link FileDigest} when the JVM doesn't provide java.util.zip.CRC32C (Java 8).</p>
+ *
+ * <p>Processes 8 bytes per step with 8 lookup tables (slicing-by-8).</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+final class Crc32c implements Checksum {
+    private static final int POLYNOMIAL = 0x82F63B78;
+    private static final int[][] TABLES = new int[8][256];
+
+    static {
+        for (int n = 0; n < 256; n++) {
+            int crc = n;
+            for (int k = 0; k < 8; k++) crc = (crc & 1) != 0 ? (crc >>> 1) ^ POLYNOMIAL : crc >>> 1;
+            TABLES[0][n] = crc;
+        }
+        for (int n = 0; n < 256; n++) {
+            for (int t = 1; t < 8; t++) TABLES[t][n] = (TABLES[t - 1][n] >>> 8) ^ TABLES[0][TABLES[t - 1][n] & 0xFF];
+        }
+    }
+
+    private final byte[] scratch = new byte[4096];
+    private int crc = 0xFFFFFFFF;
+
+    @Override
+    public void update(int b) {
+        this.crc = (this.crc >>> 8) ^ TABLES[0][(this.crc ^ b) & 0xFF];
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        int[] t0 = TABLES[0], t1 = TABLES[1], t2 = TABLES[2], t3 = TABLES[3];
+        int[] t4 = TABLES[4], t5 = TABLES[5], t6 = TABLES[6], t7 = TABLES[7];
+        int crc = this.crc;
+        int end = off + len;
+        for (; end - off >= 8; off += 8) {
+            int lo = crc ^ ((b[off] & 0xFF) | (b[off + 1] & 0xFF) << 8 | (b[off + 2] & 0xFF) << 16 | b[off + 3] << 24);
+            int hi = (b[off + 4] & 0xFF) | (b[off + 5] & 0xFF) << 8 | (b[off + 6] & 0xFF) << 16 | b[off + 7] << 24;
+            crc = t7[lo & 0xFF] ^ t6[(lo >>> 8) & 0xFF] ^ t5[(lo >>> 16) & 0xFF] ^ t4[lo >>> 24]
+                    ^ t3[hi & 0xFF] ^ t2[(hi >>> 8) & 0xFF] ^ t1[(hi >>> 16) & 0xFF] ^ t0[hi >>> 24];
+        }
+        for (; off < end; off++) crc = (crc >>> 8) ^ t0[(crc ^ b[off]) & 0xFF];
+        this.crc = crc;
+    }
+
+    /**
+     * Updates the checksum with the remaining bytes of a buffer.
+     *
+     * @param buffer The buffer (heap or direct).
+     *
+     * @since 1.4.0
+     */
+    public void update(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            this.update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+            return;
+        }
+        while (buffer.hasRemaining()) {
+            int len = Math.min(buffer.remaining(), this.scratch.length);
+            buffer.get(this.scratch, 0, len);
+            this.update(this.scratch, 0, len);
+        }
+    }
+
+    @Override
+    public long getValue() {
+        return ~this.crc & 0xFFFFFFFFL;
+    }
+
+    @Override
+    public void reset() {
+        this.crc = 0xFFFFFFFF;
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.luka5w.util.encryption;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DigestPool
+ *
+ * <p>A pool of {@link MessageDigest}s per algorithm, shared by {@link HashedPassword} and {@link FileDigest}.</p>
+ *
+ * <p>Looking up an algorithm with {@link MessageDigest#getInstance(String)} queries all security providers,
+ * so digests are reset and reused instead.
+ * The pool keeps at most {@link #MAX_IDLE} idle digests per algorithm.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+final class DigestPool {
+    private static final int MAX_IDLE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+    private static final ConcurrentHashMap<String, Pool> POOLS = new ConcurrentHashMap<>();
+
+    private DigestPool() {}
+
+    /**
+     * Takes a digest from the pool or creates a new one.
+     *
+     * @param algorithm The algorithm.
+     * @return The digest. Return it with {@link #release(MessageDigest)}.
+     *
+     * @throws NoSuchAlgorithmException When the algorithm does not exist.
+     *
+     * @since 1.4.0
+     */
+    static MessageDigest acquire(String algorithm) throws NoSuchAlgorithmException {
+        Pool pool = POOLS.get(algorithm);
+        if (pool != null) {
+            MessageDigest md = pool.idle.poll();
+            if (md != null) {
+                pool.size.decrementAndGet();
+                return md;
+            }
+        }
+        return MessageDigest.getInstance(algorithm);
+    }
+
+    /**
+     * Resets a digest and returns it to the pool.
+     *
+     * @param md The digest taken by {@link #acquire(String)}.
+     *
+     * @since 1.4.0
+     */
+    static void release(MessageDigest md) {
+        md.reset();
+        Pool pool = POOLS.computeIfAbsent(md.getAlgorithm(), algorithm -> new Pool());
+        if (pool.size.incrementAndGet() > MAX_IDLE) {
+            pool.size.decrementAndGet();
+            return;
+        }
+        pool.idle.offer(md);
+    }
+
+    private static final class Pool {
+        private final Queue<MessageDigest> idle = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+    }
+}
@@ -0,0 +1,222 @@
+package com.github.luka5w.util.encryption;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.Checksum;
+
+/**
+ * FileDigest
+ *
+ * <p>Computes digests (e.g. SHA-256 via {@link MessageDigest}) and CRC-32C checksums of files, e.g. to verify large files after writing them.</p>
+ *
+ * <p>Files are streamed and never loaded into memory:
+ * large files are memory-mapped in segments, small files are read into a direct buffer per thread.
+ * The digests are pooled and shared with {@link HashedPassword}.
+ * CRC-32C uses java.util.zip.CRC32C (hardware accelerated) on Java 9+ and a table-driven implementation on Java 8.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public final class FileDigest {
+    /**
+     * The name of the CRC-32C checksum for {@link #digest(File, String)}.
+     *
+     * @since 1.4.0
+     */
+    public static final String CRC32C = "CRC32C";
+
+    private static final long MAP_THRESHOLD = 1L << 20;
+    private static final long MAP_SEGMENT = 1L << 26;
+    private static final ThreadLocal<ByteBuffer> BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(1 << 16));
+
+    private static final MethodHandle NEW_CRC32C;
+    private static final MethodHandle UPDATE_BUFFER;
+
+    static {
+        MethodHandle constructor = null;
+        MethodHandle update = null;
+        try {
+            Class<?> crc32c = Class.forName("java.util.zip.CRC32C");
+            constructor = MethodHandles.publicLookup()
+                    .findConstructor(crc32c, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Checksum.class));
+            update = MethodHandles.publicLookup()
+                    .findVirtual(crc32c, "update", MethodType.methodType(void.class, ByteBuffer.class))
+                    .asType(MethodType.methodType(void.class, Checksum.class, ByteBuffer.class));
+        }
+        catch (ReflectiveOperationException e) {
+            // Java 8
+            constructor = null;
+            update = null;
+        }
+        NEW_CRC32C = constructor;
+        UPDATE_BUFFER = update;
+    }
+
+    private FileDigest() {}
+
+    /**
+     * Computes the digest of a file.
+     *
+     * @param file The file.
+     * @param algorithm The algorithm of {@link MessageDigest} (e.g. SHA-256) or {@link #CRC32C}.
+     * @return The digest (CRC-32C: 4 bytes, big-endian).
+     *
+     * @throws IOException When a file operation went wrong.
+     * @throws NoSuchAlgorithmException When the algorithm does not exist.
+     *
+     * @since 1.4.0
+     */
+    public static byte[] digest(File file, String algorithm) throws IOException, NoSuchAlgorithmException {
+        if (algorithm.equals(CRC32C)) {
+            long crc = crc32c(file);
+            return new byte[] { (byte) (crc >>> 24), (byte) (crc >>> 16), (byte) (crc >>> 8), (byte) crc };
+        }
+        MessageDigest md = DigestPool.acquire(algorithm);
+        try {
+            stream(file, md::update);
+            return md.digest();
+        }
+        finally {
+            DigestPool.release(md);
+        }
+    }
+
+    /**
+     * Computes the CRC-32C checksum of a file.
+     *
+     * @param file The file.
+     * @return The checksum.
+     *
+     * @throws IOException When a file operation went wrong.
+     *
+     * @since 1.4.0
+     */
+    public static long crc32c(File file) throws IOException {
+        Checksum checksum = newCrc32c();
+        stream(file, buffer -> update(checksum, buffer));
+        return checksum.getValue();
+    }
+
+    /**
+     * Computes the digests of files in parallel.
+     *
+     * @param files The files.
+     * @param algorithm The algorithm of {@link MessageDigest} (e.g. SHA-256) or {@link #CRC32C}.
+     * @return The digests in the order of the files.
+     *
+     * @throws IOException When a file operation went wrong.
+     * @throws NoSuchAlgorithmException When the algorithm does not exist.
+     *
+     * @since 1.4.0
+     */
+    public static List<byte[]> digestAll(List<File> files, String algorithm) throws IOException, NoSuchAlgorithmException {
+        if (!algorithm.equals(CRC32C)) DigestPool.release(DigestPool.acquire(algorithm));
+        try {
+            return files.parallelStream().map(file -> {
+                try {
+                    return digest(file, algorithm);
+                }
+                catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                catch (NoSuchAlgorithmException e) {
+                    throw new IllegalStateException("Unexpected Exception: The algorithm was checked already.\n" + e.getMessage());
+                }
+            }).collect(Collectors.toList());
+        }
+        catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Creates a new CRC-32C checksum.
+     *
+     * @return java.util.zip.CRC32C on Java 9+, else an implementation of this library.
+     *
+     * @since 1.4.0
+     */
+    public static Checksum newCrc32c() {
+        if (NEW_CRC32C == null) return new Crc32c();
+        try {
+            return (Checksum) NEW_CRC32C.invokeExact();
+        }
+        catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Formats a digest as hex String.
+     *
+     * @param digest The digest.
+     * @return The lower case hex String.
+     *
+     * @since 1.4.0
+     */
+    public static String toHex(byte[] digest) {
+        char[] hex = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            hex[i * 2] = Character.forDigit((digest[i] >> 4) & 0xF, 16);
+            hex[i * 2 + 1] = Character.forDigit(digest[i] & 0xF, 16);
+        }
+        return new String(hex);
+    }
+
+    /**
+     * Updates a checksum with the remaining bytes of a buffer.
+     */
+    private static void update(Checksum checksum, ByteBuffer buffer) {
+        if (checksum instanceof Crc32c) {
+            ((Crc32c) checksum).update(buffer);
+            return;
+        }
+        try {
+            UPDATE_BUFFER.invokeExact(checksum, buffer);
+        }
+        catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Passes the content of a file in buffers to a sink.
+     */
+    private static void stream(File file, Sink sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size >= MAP_THRESHOLD) {
+                // mapped segments are unmapped by the GC
+                for (long position = 0; position < size; position += MAP_SEGMENT) {
+                    sink.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_SEGMENT, size - position)));
+                }
+                return;
+            }
+            ByteBuffer buffer = BUFFER.get();
+            while (true) {
+                buffer.clear();
+                if (channel.read(buffer) < 0) return;
+                buffer.flip();
+                sink.update(buffer);
+            }
+        }
+    }
+
+    private interface Sink {
+        void update(ByteBuffer buffer);
+    }
+}
@@ -16,7 +16,7 @@ import java.util.Base64;
  * GitHub: https://github.com/luka5w/javautils
  *
  * @author Lukas // https://github.com/luka5w
- * @version 1.0.0
+ * @version 1.1.0
  */
 public class HashedPassword {
     private static final String DEFAULT_ALGORITHM = "SHA-256";
@@ -182,8 +182,13 @@ public class HashedPassword {
      * @since 1.0.0
      */
     private byte[] hash(String password) throws NoSuchAlgorithmException {
-        MessageDigest md = MessageDigest.getInstance(this.algorithm);
-        md.update(this.salt);
-        return md.digest(password.getBytes(this.charset));
+        MessageDigest md = DigestPool.acquire(this.algorithm);
+        try {
+            md.update(this.salt);
+            return md.digest(password.getBytes(this.charset));
+        }
+        finally {
+            DigestPool.release(md);
+        }
     }
 }
\ No newline at end of file
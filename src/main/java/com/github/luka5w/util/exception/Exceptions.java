@@ -0,0 +1,42 @@
+package com.github.luka5w.util.exception;
+
+/**
+ * Exceptions
+ *
+ * <p>The settings of the stackless exceptions of this package.</p>
+ *
+ * <p>The exceptions returned by the shared() and stackless(String) methods (e.g. {@link IncomparableException#shared()})
+ * don't fill in their stack trace, so they are cheap enough to signal expected conditions on hot paths.
+ * The shared instances are immutable: their stack trace, cause and suppressed exceptions can't be changed.</p>
+ *
+ * <p>Set the system property {@value #DEBUG_PROPERTY} to true to create new exceptions with stack traces instead,
+ * e.g. to find out where an exception is thrown.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public final class Exceptions {
+    /**
+     * The system property enabling stack traces for the stackless exceptions.
+     *
+     * @since 1.4.0
+     */
+    public static final String DEBUG_PROPERTY = "com.github.luka5w.util.exception.debug";
+
+    private static final boolean DEBUG = Boolean.getBoolean(DEBUG_PROPERTY);
+
+    private Exceptions() {}
+
+    /**
+     * Returns whether the stackless exceptions are created with stack traces.
+     *
+     * @return Whether the system property {@value #DEBUG_PROPERTY} was true when this class was loaded.
+     *
+     * @since 1.4.0
+     */
+    public static boolean isDebug() {
+        return DEBUG;
+    }
+}
@@ -8,9 +8,34 @@ package com.github.luka5w.util.exception;
  * GitHub: https://github.com/luka5w/javautils
  *
  * @author Lukas // https://github.com/luka5w
- * @version 1.0.0
+ * @version 1.1.0
  */
 public class IncomparableException extends Exception {
+    private static final IncomparableException SHARED = new IncomparableException(null, null, false, false);
+
+    /**
+     * Returns a shared exception without stack trace, e.g. to signal that instances can't be compared in normal control flow.
+     *
+     * @return The shared exception or a new exception with stack trace in debug mode (see {@link Exceptions}).
+     *
+     * @since 1.4.0
+     */
+    public static IncomparableException shared() {
+        return Exceptions.isDebug() ? new IncomparableException() : SHARED;
+    }
+
+    /**
+     * Creates a new exception without stack trace.
+     *
+     * @param s The message.
+     * @return The exception (with stack trace in debug mode, see {@link Exceptions}).
+     *
+     * @since 1.4.0
+     */
+    public static IncomparableException stackless(String s) {
+        return Exceptions.isDebug() ? new IncomparableException(s) : new IncomparableException(s, null, false, false);
+    }
+
     public IncomparableException() {
         super();
     }
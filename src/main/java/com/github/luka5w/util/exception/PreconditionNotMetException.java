@@ -8,9 +8,34 @@ package com.github.luka5w.util.exception;
  * GitHub: https://github.com/luka5w/javautils
  *
  * @author Lukas // https://github.com/luka5w
- * @version 1.0.0
+ * @version 1.1.0
  */
 public class PreconditionNotMetException extends RuntimeException {
+    private static final PreconditionNotMetException SHARED = new PreconditionNotMetException(null, null, false, false);
+
+    /**
+     * Returns a shared exception without stack trace, e.g. to signal that a precondition isn't met in normal control flow.
+     *
+     * @return The shared exception or a new exception with stack trace in debug mode (see {@link Exceptions}).
+     *
+     * @since 1.4.0
+     */
+    public static PreconditionNotMetException shared() {
+        return Exceptions.isDebug() ? new PreconditionNotMetException() : SHARED;
+    }
+
+    /**
+     * Creates a new exception without stack trace.
+     *
+     * @param s The message.
+     * @return The exception (with stack trace in debug mode, see {@link Exceptions}).
+     *
+     * @since 1.4.0
+     */
+    public static PreconditionNotMetException stackless(String s) {
+        return Exceptions.isDebug() ? new PreconditionNotMetException(s) : new PreconditionNotMetException(s, null, false, false);
+    }
+
     public PreconditionNotMetException() {
         super();
     }
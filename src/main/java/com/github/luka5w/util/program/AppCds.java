@@ -0,0 +1,68 @@
+package com.github.luka5w.util.program;
+
+import com.github.luka5w.util.cli.CLIUtils;
+import com.github.luka5w.util.cli.ShutdownCoordinator;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * AppCds
+ *
+ * <p>Runs a program in training mode to create an AppCDS archive (application class-data sharing, Java 13+).</p>
+ *
+ * <pre>
+ * java -XX:ArchiveClassesAtExit=app.jsa -cp app.jar com.github.luka5w.util.program.AppCds com.example.Main [args...]
+ * java -XX:SharedArchiveFile=app.jsa -Xshare:auto -jar app.jar ...
+ * </pre>
+ *
+ * <p>In training mode, {@link Program#exec()} and {@link SmallProgram#exec()} call the train method of the main class
+ * instead of main, and format the help text without printing it, so the classes of the startup path are loaded
+ * (and archived by the JVM) without side effects. The gradle task appCdsArchive runs this class.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public final class AppCds {
+    /** The system property which enables the training mode. */
+    public static final String PROPERTY = "com.github.luka5w.util.cds.training";
+
+    private AppCds() {}
+
+    /**
+     * Returns whether the program runs in training mode.
+     *
+     * @return Whether the training mode is enabled.
+     *
+     * @since 1.4.0
+     */
+    public static boolean isTraining() {
+        return Boolean.getBoolean(PROPERTY);
+    }
+
+    /**
+     * Runs the main method of a class in training mode.
+     *
+     * @param args The main class followed by its arguments.
+     *
+     * @since 1.4.0
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) CLIUtils.logAndExit("usage: AppCds <main class> [args...]", 1); /// exit 1
+        System.setProperty(PROPERTY, "true");
+        try {
+            Method main = Class.forName(args[0]).getMethod("main", String[].class);
+            main.invoke(null, (Object) Arrays.copyOfRange(args, 1, args.length));
+        }
+        catch (InvocationTargetException e) {
+            CLIUtils.logAndExit("training failed: ", e.getCause());
+        } /// exit -1
+        catch (ReflectiveOperationException e) {
+            CLIUtils.logAndExit("can't run main class: ", e);
+        } /// exit -1
+        ShutdownCoordinator.exit(0);
+    }
+}
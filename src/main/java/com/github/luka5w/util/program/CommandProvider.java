@@ -0,0 +1,40 @@
+package com.github.luka5w.util.program;
+
+/**
+ * The service interface of a subcommand, which is loaded by a {@link CommandRegistry} with {@link java.util.ServiceLoader}.
+ *
+ * <p>Providers are listed in META-INF/services/com.github.luka5w.util.program.CommandProvider.
+ * A provider should only hold the metadata of its command and load the main class in {@link #createMainClass()},
+ * so listing the commands doesn't load their classes.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public interface CommandProvider {
+
+    /**
+     * Returns the name of the command.
+     *
+     * @return The name (e.g. build for tool build).
+     * @since 1.4.0
+     */
+    String getName();
+
+    /**
+     * Returns a short description of the command for the help output.
+     *
+     * @return The description.
+     * @since 1.4.0
+     */
+    String getDescription();
+
+    /**
+     * Creates the main class of the command.
+     *
+     * @return A {@link MainClass} or {@link SmallMainClass}.
+     * @since 1.4.0
+     */
+    Object createMainClass();
+}
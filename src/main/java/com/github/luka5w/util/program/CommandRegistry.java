@@ -0,0 +1,188 @@
+package com.github.luka5w.util.program;
+
+import com.github.luka5w.util.cli.CLIUtils;
+import com.github.luka5w.util.cli.ShutdownCoordinator;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * CommandRegistry
+ *
+ * <p>Dispatches a program with subcommands (tool &lt;command&gt; [options]) to the {@link Program} or {@link SmallProgram}
+ * of the command.</p>
+ *
+ * <p>Commands are registered with their name, description and a supplier of their main class,
+ * or loaded with {@link ServiceLoader} (see {@link CommandProvider}).
+ * Only the main class and the options of the invoked command are loaded,
+ * the help output is built from the registered metadata.
+ * The providers of the {@link ServiceLoader} are only loaded when the command isn't registered or the help is printed.</p>
+ *
+ * <pre>
+ * new CommandRegistry("tool", "1.0.0", new File("tool.cfg"))
+ *         .register("build", "builds the project", () -&gt; new BuildCommand())
+ *         .register("clean", "deletes the build files", () -&gt; new CleanCommand())
+ *         .run(args);
+ * </pre>
+ *
+ * <p>Use lambdas instead of constructor references (BuildCommand::new) as suppliers,
+ * constructor references load the class when the command is registered.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public final class CommandRegistry {
+    private final String programName;
+    private final String programVersion;
+    private final File defaultConfigFile;
+    private final Map<String, Command> commands = new TreeMap<>();
+
+    private ClassLoader serviceLoader = null;
+    private boolean servicesLoaded = true;
+    private String help = null;
+
+    /**
+     * Creates a new registry.
+     *
+     * @param programName The program name (should be defined in META-INF/MANIFEST.MF).
+     * @param programVersion The program version (should be defined in META-INF/MANIFEST.MF).
+     * @param defaultConfigFile The default config file of commands with a {@link MainClass}.
+     *
+     * @since 1.4.0
+     */
+    public CommandRegistry(String programName, String programVersion, File defaultConfigFile) {
+        this.programName = programName;
+        this.programVersion = programVersion;
+        this.defaultConfigFile = defaultConfigFile;
+    }
+
+    /**
+     * Registers a command.
+     *
+     * @param name The name of the command.
+     * @param description A short description for the help output.
+     * @param mainClass Creates the {@link MainClass} or {@link SmallMainClass} of the command when it is invoked.
+     * @return This registry.
+     *
+     * @throws IllegalArgumentException When a command with the name is already registered.
+     *
+     * @since 1.4.0
+     */
+    public CommandRegistry register(String name, String description, Supplier<?> mainClass) {
+        if (name.isEmpty() || name.startsWith("-")) throw new IllegalArgumentException("invalid command name: " + name);
+        if (this.commands.containsKey(name)) throw new IllegalArgumentException("command already registered: " + name);
+        this.commands.put(name, new Command(description, mainClass));
+        this.help = null;
+        return this;
+    }
+
+    /**
+     * Enables loading commands with {@link ServiceLoader} (see {@link CommandProvider}).
+     *
+     * @param classLoader The class loader to load the providers with.
+     * @return This registry.
+     *
+     * @since 1.4.0
+     */
+    public CommandRegistry loadServices(ClassLoader classLoader) {
+        this.serviceLoader = classLoader;
+        this.servicesLoaded = false;
+        this.help = null;
+        return this;
+    }
+
+    /**
+     * Runs the command named by the first argument with the remaining arguments.
+     * <br />
+     * <br />
+     * Prints the help and exits with 0 when there are no arguments or the first one is help, -h or --help.
+     * Exits with 1 when the command is unknown.
+     *
+     * @param args The args passed by the CLI.
+     *
+     * @since 1.4.0
+     */
+    public void run(String[] args) {
+        if (args.length == 0 || args[0].equals("help") || args[0].equals("-h") || args[0].equals("--help")) {
+            System.out.print(this.getHelp());
+            ShutdownCoordinator.exit(0);
+            return;
+        } /// exit 0
+        if (args[0].equals("-v") || args[0].equals("--version")) CLIUtils.logAndExit(this.programVersion, 0); /// exit 0
+        Command command = this.commands.get(args[0]);
+        if (command == null && !this.servicesLoaded) {
+            this.loadProviders();
+            command = this.commands.get(args[0]);
+        }
+        if (command == null) {
+            CLIUtils.logAndExit("unknown command: " + args[0] + "\nrun '" + this.programName + " help' for a list of commands", 1);
+            return;
+        } /// exit 1
+        String[] commandArgs = Arrays.copyOfRange(args, 1, args.length);
+        String name = this.programName + " " + args[0];
+        Object mainClass = command.mainClass.get();
+        if (mainClass instanceof MainClass) {
+            Program program = new Program((MainClass) mainClass, commandArgs, this.defaultConfigFile, name, this.programVersion, command.description, null);
+            program.init();
+            program.exec();
+        }
+        else if (mainClass instanceof SmallMainClass) {
+            SmallProgram program = new SmallProgram((SmallMainClass) mainClass, commandArgs, name, this.programVersion, command.description, null);
+            program.init();
+            program.exec();
+        }
+        else {
+            throw new IllegalArgumentException("main class of command " + args[0] + " is neither a MainClass nor a SmallMainClass");
+        }
+    }
+
+    /**
+     * Returns the help output listing all commands.
+     *
+     * @return The help text (built once).
+     *
+     * @since 1.4.0
+     */
+    public String getHelp() {
+        if (!this.servicesLoaded) this.loadProviders();
+        if (this.help != null) return this.help;
+        int width = 0;
+        for (String name : this.commands.keySet()) width = Math.max(width, name.length());
+        StringBuilder sb = new StringBuilder("usage: ").append(this.programName).append(" <command> [options]\n\ncommands:\n");
+        for (Map.Entry<String, Command> e : this.commands.entrySet()) {
+            sb.append("  ").append(e.getKey());
+            for (int i = e.getKey().length(); i < width + 3; i++) sb.append(' ');
+            sb.append(e.getValue().description).append('\n');
+        }
+        sb.append("\nrun '").append(this.programName).append(" <command> --help' for the options of a command\n");
+        return this.help = sb.toString();
+    }
+
+    private void loadProviders() {
+        this.servicesLoaded = true;
+        for (CommandProvider provider : ServiceLoader.load(CommandProvider.class, this.serviceLoader)) {
+            // registered commands take precedence
+            if (!this.commands.containsKey(provider.getName())) this.commands.put(provider.getName(), new Command(provider.getDescription(), provider::createMainClass));
+        }
+        this.help = null;
+    }
+
+    /**
+     * The metadata of a command.
+     */
+    private static final class Command {
+        private final String description;
+        private final Supplier<?> mainClass;
+
+        private Command(String description, Supplier<?> mainClass) {
+            this.description = description;
+            this.mainClass = mainClass;
+        }
+    }
+}
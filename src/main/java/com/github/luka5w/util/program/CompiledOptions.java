@@ -0,0 +1,190 @@
+package com.github.luka5w.util.program;
+
+import org.apache.commons.cli.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * CompiledOptions
+ *
+ * <p>The options of a main class, built once per main class and set of default options.</p>
+ *
+ * <p>The cached {@link Options} are shared by all programs of the same main class and must not be modified.
+ * Arguments are parsed by a small parser for the common cases (known options without arguments, positional arguments).
+ * All other cases (e.g. options with arguments, which commons-cli only lets its parsers set) are passed to {@link DefaultParser},
+ * which is only loaded then.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+final class CompiledOptions {
+    private static final Map<DefaultOption, Option> DEFAULT_OPTIONS = new EnumMap<>(DefaultOption.class);
+    /** Stored in the main classes, so the cache doesn't keep them (and their class loaders) alive. */
+    private static final ClassValue<CompiledOptions[]> CACHE = new ClassValue<CompiledOptions[]>() {
+        @Override
+        protected CompiledOptions[] computeValue(Class<?> type) {
+            return new CompiledOptions[1 << DefaultOption.values().length];
+        }
+    };
+
+    static {
+        DEFAULT_OPTIONS.put(DefaultOption.HELP, Option.builder("h").longOpt("help").desc("displays this help").build());
+        DEFAULT_OPTIONS.put(DefaultOption.VERSION, Option.builder("v").longOpt("version").desc("displays the current version").build());
+        DEFAULT_OPTIONS.put(DefaultOption.CONFIG, Option.builder("c").longOpt("config").hasArg(true).argName("FILE").desc("execute program with custom config file").build());
+        DEFAULT_OPTIONS.put(DefaultOption.SETUP, Option.builder().longOpt("setup").desc("starts an user interface to create (or overwrite!) the default config file\nuse -c option to change the location").build());
+        DEFAULT_OPTIONS.put(DefaultOption.PROFILE_STARTUP, Option.builder().longOpt("profile-startup").desc("prints the duration of each startup phase to stderr").build());
+        DEFAULT_OPTIONS.put(DefaultOption.ANSWERS, Option.builder().longOpt("answers").hasArg(true).argName("FILE").desc("reads the answers of all prompts from a file (one per line)").build());
+    }
+
+    private final Options options;
+    /** The enabled default options which weren't replaced by options of the main class. */
+    private final EnumSet<DefaultOption> enabled;
+    /** Whether the options can be parsed by {@link #parseSimple(String[])}. */
+    private final boolean simple;
+
+    private CompiledOptions(Options options, EnumSet<DefaultOption> enabled) {
+        this.options = options;
+        this.enabled = EnumSet.noneOf(DefaultOption.class);
+        for (DefaultOption option : enabled) {
+            Option o = DEFAULT_OPTIONS.get(option);
+            if (options.getOption(o.getOpt() != null ? o.getOpt() : o.getLongOpt()) == o
+                    && (o.getLongOpt() == null || options.getOption(o.getLongOpt()) == o)) this.enabled.add(option);
+        }
+        this.simple = isSimple(options);
+    }
+
+    /**
+     * Returns the cached options of a main class or builds them.
+     *
+     * @param mainClass The class of the main class.
+     * @param defaultOptions The enabled default options.
+     * @param customOptions Adds the custom options of the main class. Only called when the options aren't cached yet.
+     * @return The options.
+     *
+     * @since 1.4.0
+     */
+    static CompiledOptions get(Class<?> mainClass, DefaultOption[] defaultOptions, Consumer<Options> customOptions) {
+        EnumSet<DefaultOption> enabled = EnumSet.noneOf(DefaultOption.class);
+        int mask = 0;
+        for (DefaultOption option : defaultOptions) {
+            enabled.add(option);
+            mask |= 1 << option.ordinal();
+        }
+        CompiledOptions[] compiled = CACHE.get(mainClass);
+        CompiledOptions options = compiled[mask];
+        if (options == null) {
+            // racy, but building the options twice is harmless
+            options = new CompiledOptions(build(enabled, customOptions), enabled);
+            compiled[mask] = options;
+        }
+        return options;
+    }
+
+    private static Options build(EnumSet<DefaultOption> enabled, Consumer<Options> customOptions) {
+        Options options = new Options();
+        for (DefaultOption option : enabled) options.addOption(DEFAULT_OPTIONS.get(option));
+        customOptions.accept(options);
+        return options;
+    }
+
+    /**
+     * Returns the options.
+     *
+     * @return The options. Must not be modified.
+     *
+     * @since 1.4.0
+     */
+    Options getOptions() {
+        return this.options;
+    }
+
+    /**
+     * Returns whether a default option is enabled.
+     *
+     * @param option The default option.
+     * @return Whether the option is enabled and wasn't replaced by an option of the main class with the same name.
+     *
+     * @since 1.4.0
+     */
+    boolean isEnabled(DefaultOption option) {
+        return this.enabled.contains(option);
+    }
+
+    /**
+     * Parses arguments.
+     *
+     * @param args The arguments.
+     * @return The parsed arguments.
+     *
+     * @throws ParseException When the arguments are invalid.
+     *
+     * @since 1.4.0
+     */
+    CommandLine parse(String[] args) throws ParseException {
+        CommandLine cmd = this.simple ? this.parseSimple(args) : null;
+        if (cmd != null) return cmd;
+        return new DefaultParser().parse(this.options, args);
+    }
+
+    /**
+     * Parses arguments consisting only of known options without arguments (-x, --long) and positional arguments.
+     *
+     * @param args The arguments.
+     * @return The parsed arguments or null when the arguments must be parsed by {@link DefaultParser}.
+     *
+     * @since 1.4.0
+     */
+    private CommandLine parseSimple(String[] args) {
+        CommandLine.Builder builder = new CommandLine.Builder();
+        List<Option> parsed = null;
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.isEmpty() || arg.charAt(0) != '-') {
+                builder.addArg(arg);
+                continue;
+            }
+            Option option = this.lookup(arg);
+            if (option == null) return null;
+            if (parsed == null) parsed = new ArrayList<>(4);
+            else if (contains(parsed, option)) return null;
+            parsed.add(option);
+            // values can only be added by the parsers of commons-cli
+            if (option.hasArg() || option.hasOptionalArg()) return null;
+            builder.addOption((Option) option.clone());
+        }
+        return builder.build();
+    }
+
+    private static boolean isSimple(Options options) {
+        for (Option option : options.getOptions()) {
+            if (option.isRequired() || options.getOptionGroup(option) != null) return false;
+        }
+        return true;
+    }
+
+    private Option lookup(String arg) {
+        if (arg.startsWith("--")) {
+            String name = arg.substring(2);
+            if (name.isEmpty() || name.indexOf('=') >= 0 || !this.options.hasLongOption(name) || this.options.hasShortOption(name)) return null;
+            return this.options.getOption(name);
+        }
+        if (arg.length() != 2) return null;
+        String name = arg.substring(1);
+        return this.options.hasShortOption(name) ? this.options.getOption(name) : null;
+    }
+
+    private static boolean contains(Collection<Option> options, Option option) {
+        for (Option o : options) {
+            if (o == option) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,405 @@
+package com.github.luka5w.util.program;
+
+import com.github.luka5w.util.data.ParseResult;
+import com.github.luka5w.util.data.ParseUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Config
+ *
+ * <p>An immutable snapshot of a config file with lines of the format key=value or key: value.</p>
+ *
+ * <p>Empty lines and lines starting with # or ! are ignored, keys and values are trimmed.
+ * When a key is defined multiple times, the last value is used.</p>
+ *
+ * <p>The file is read and parsed once.
+ * Every value is converted to all types it can be interpreted as (long, boolean, duration) while parsing,
+ * so the getters only read arrays.
+ * Look up the index of a key once with {@link #indexOf(String)} and use the index based getters on hot paths.</p>
+ *
+ * <p>Values are parsed with {@link ParseUtils}.
+ * Durations are written as a number followed by a unit (ns, us, ms, s, m, h, d), e.g. 500ms or 10s,
+ * or in ISO-8601 format (e.g. PT10S). Numbers without unit are milliseconds.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public final class Config {
+    private static final byte LONG = 1;
+    private static final byte BOOLEAN = 2;
+    private static final byte TRUE = 4;
+    private static final byte DURATION = 8;
+
+    private final String[] keys;
+    private final String[] values;
+    private final byte[] types;
+    private final long[] longs;
+    private final long[] durations;
+    private final Map<String, Integer> indices;
+
+    private Config(List<String> keys, List<String> values, Map<String, Integer> indices) {
+        int size = keys.size();
+        this.keys = keys.toArray(new String[size]);
+        this.values = values.toArray(new String[size]);
+        this.types = new byte[size];
+        this.longs = new long[size];
+        this.durations = new long[size];
+        this.indices = indices;
+        ParseResult result = new ParseResult();
+        for (int i = 0; i < size; i++) {
+            String value = this.values[i];
+            if (ParseUtils.parseLong(value, result)) {
+                this.longs[i] = result.getLong();
+                this.types[i] |= LONG;
+            }
+            if (ParseUtils.parseBoolean(value, result)) {
+                this.types[i] |= result.getBoolean() ? BOOLEAN | TRUE : BOOLEAN;
+            }
+            long nanos = parseDurationNanos(value, result);
+            if (nanos >= 0) {
+                this.durations[i] = nanos;
+                this.types[i] |= DURATION;
+            }
+        }
+    }
+
+    /**
+     * Reads and parses a config file.
+     *
+     * @param file The config file (UTF-8).
+     * @return The config.
+     *
+     * @throws IOException When a file operation went wrong.
+     * @throws IllegalArgumentException When a line isn't a key value pair.
+     *
+     * @since 1.4.0
+     */
+    public static Config load(File file) throws IOException {
+        return parse(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses the content of a config file.
+     *
+     * @param text The content.
+     * @return The config.
+     *
+     * @throws IllegalArgumentException When a line isn't a key value pair.
+     *
+     * @since 1.4.0
+     */
+    public static Config parse(CharSequence text) {
+        List<String> keys = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        Map<String, Integer> indices = new HashMap<>();
+        int length = text.length();
+        int line = 0;
+        int start = 0;
+        while (start < length) {
+            line++;
+            int end = start;
+            while (end < length && text.charAt(end) != '\n' && text.charAt(end) != '\r') end++;
+            int i = skipWhitespace(text, start, end);
+            if (i < end && text.charAt(i) != '#' && text.charAt(i) != '!') {
+                int separator = i;
+                while (separator < end && text.charAt(separator) != '=' && text.charAt(separator) != ':') separator++;
+                if (separator == end || separator == i) throw new IllegalArgumentException("Invalid Config (err at line " + line + ")");
+                String key = trim(text, i, separator);
+                String value = trim(text, separator + 1, end);
+                Integer index = indices.get(key);
+                if (index == null) {
+                    indices.put(key, keys.size());
+                    keys.add(key);
+                    values.add(value);
+                }
+                else {
+                    values.set(index, value);
+                }
+            }
+            // \r\n counts as one line break
+            if (end + 1 < length && text.charAt(end) == '\r' && text.charAt(end + 1) == '\n') end++;
+            start = end + 1;
+        }
+        return new Config(keys, values, indices);
+    }
+
+    /**
+     * Returns the amount of keys.
+     *
+     * @return The size of this config.
+     *
+     * @since 1.4.0
+     */
+    public int size() {
+        return this.keys.length;
+    }
+
+    /**
+     * Returns the index of a key.
+     *
+     * @param key The key.
+     * @return The index or -1 when the key isn't defined.
+     *
+     * @since 1.4.0
+     */
+    public int indexOf(String key) {
+        Integer index = this.indices.get(key);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns whether a key is defined.
+     *
+     * @param key The key.
+     * @return Whether the key is defined.
+     *
+     * @since 1.4.0
+     */
+    public boolean contains(String key) {
+        return this.indices.containsKey(key);
+    }
+
+    /**
+     * Returns the key at an index.
+     *
+     * @param index The index.
+     * @return The key.
+     *
+     * @since 1.4.0
+     */
+    public String getKey(int index) {
+        return this.keys[index];
+    }
+
+    /**
+     * Returns the value at an index.
+     *
+     * @param index The index.
+     * @return The value.
+     *
+     * @since 1.4.0
+     */
+    public String getString(int index) {
+        return this.values[index];
+    }
+
+    /**
+     * Returns the value of a key.
+     *
+     * @param key The key.
+     * @param def The value to return when the key isn't defined.
+     * @return The value.
+     *
+     * @since 1.4.0
+     */
+    public String getString(String key, String def) {
+        int index = this.indexOf(key);
+        return index < 0 ? def : this.values[index];
+    }
+
+    /**
+     * Returns the value at an index as long.
+     *
+     * @param index The index.
+     * @return The value.
+     *
+     * @throws IllegalArgumentException When the value isn't a long.
+     *
+     * @since 1.4.0
+     */
+    public long getLong(int index) {
+        if ((this.types[index] & LONG) == 0) throw this.invalid(index, "a long");
+        return this.longs[index];
+    }
+
+    /**
+     * Returns the value of a key as long.
+     *
+     * @param key The key.
+     * @param def The value to return when the key isn't defined.
+     * @return The value.
+     *
+     * @throws IllegalArgumentException When the value isn't a long.
+     *
+     * @since 1.4.0
+     */
+    public long getLong(String key, long def) {
+        int index = this.indexOf(key);
+        return index < 0 ? def : this.getLong(index);
+    }
+
+    /**
+     * Returns the value at an index as int.
+     *
+     * @param index The index.
+     * @return The value.
+     *
+     * @throws IllegalArgumentException When the value isn't an int.
+     *
+     * @since 1.4.0
+     */
+    public int getInt(int index) {
+        long value = this.longs[index];
+        if ((this.types[index] & LONG) == 0 || (int) value != value) throw this.invalid(index, "an int");
+        return (int) value;
+    }
+
+    /**
+     * Returns the value of a key as int.
+     *
+     * @param key The key.
+     * @param def The value to return when the key isn't defined.
+     * @return The value.
+     *
+     * @throws IllegalArgumentException When the value isn't an int.
+     *
+     * @since 1.4.0
+     */
+    public int getInt(String key, int def) {
+        int index = this.indexOf(key);
+        return index < 0 ? def : this.getInt(index);
+    }
+
+    /**
+     * Returns the value at an index as boolean (true/false, yes/no, on/off or 1/0, case-insensitive).
+     *
+     * @param index The index.
+     * @return The value.
+     *
+     * @throws IllegalArgumentException When the value isn't a boolean.
+     *
+     * @since 1.4.0
+     */
+    public boolean getBoolean(int index) {
+        if ((this.types[index] & BOOLEAN) == 0) throw this.invalid(index, "a boolean");
+        return (this.types[index] & TRUE) != 0;
+    }
+
+    /**
+     * Returns the value of a key as boolean (true/false, yes/no, on/off or 1/0, case-insensitive).
+     *
+     * @param key The key.
+     * @param def The value to return when the key isn't defined.
+     * @return The value.
+     *
+     * @throws IllegalArgumentException When the value isn't a boolean.
+     *
+     * @since 1.4.0
+     */
+    public boolean getBoolean(String key, boolean def) {
+        int index = this.indexOf(key);
+        return index < 0 ? def : this.getBoolean(index);
+    }
+
+    /**
+     * Returns the value at an index as duration in nanoseconds.
+     *
+     * @param index The index.
+     * @return The value.
+     *
+     * @throws IllegalArgumentException When the value isn't a duration.
+     *
+     * @since 1.4.0
+     */
+    public long getDurationNanos(int index) {
+        if ((this.types[index] & DURATION) == 0) throw this.invalid(index, "a duration");
+        return this.durations[index];
+    }
+
+    /**
+     * Returns the value at an index as duration.
+     *
+     * @param index The index.
+     * @return The value.
+     *
+     * @throws IllegalArgumentException When the value isn't a duration.
+     *
+     * @since 1.4.0
+     */
+    public Duration getDuration(int index) {
+        return Duration.ofNanos(this.getDurationNanos(index));
+    }
+
+    /**
+     * Returns the value of a key as duration.
+     *
+     * @param key The key.
+     * @param def The value to return when the key isn't defined.
+     * @return The value.
+     *
+     * @throws IllegalArgumentException When the value isn't a duration.
+     *
+     * @since 1.4.0
+     */
+    public Duration getDuration(String key, Duration def) {
+        int index = this.indexOf(key);
+        return index < 0 ? def : this.getDuration(index);
+    }
+
+    /**
+     * Returns all key value pairs.
+     *
+     * @return An unmodifiable map in the order of the file.
+     *
+     * @since 1.4.0
+     */
+    public Map<String, String> toMap() {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < this.keys.length; i++) map.put(this.keys[i], this.values[i]);
+        return Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public String toString() {
+        return this.toMap().toString();
+    }
+
+    private IllegalArgumentException invalid(int index, String type) {
+        return new IllegalArgumentException("config value of " + this.keys[index] + " isn't " + type + ": " + this.values[index]);
+    }
+
+    /**
+     * Parses a duration.
+     *
+     * @param s The duration, e.g. 10s or PT10S.
+     * @param result The result to reuse.
+     * @return The duration in nanoseconds or -1 when s isn't a (positive) duration.
+     */
+    private static long parseDurationNanos(String s, ParseResult result) {
+        if (s.startsWith("P") || s.startsWith("p")) {
+            try {
+                long nanos = Duration.parse(s).toNanos();
+                return nanos < 0 ? -1 : nanos;
+            }
+            catch (DateTimeParseException | ArithmeticException e) {
+                return -1;
+            }
+        }
+        return ParseUtils.parseDuration(s, result) ? result.getLong() : -1;
+    }
+
+    private static int skipWhitespace(CharSequence s, int start, int end) {
+        while (start < end && Character.isWhitespace(s.charAt(start))) start++;
+        return start;
+    }
+
+    private static String trim(CharSequence s, int start, int end) {
+        start = skipWhitespace(s, start, end);
+        while (end > start && Character.isWhitespace(s.charAt(end - 1))) end--;
+        return s.subSequence(start, end).toString();
+    }
+}
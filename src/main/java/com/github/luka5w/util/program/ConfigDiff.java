@@ -0,0 +1,139 @@
+package com.github.luka5w.util.program;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ConfigDiff
+ *
+ * <p>The difference between two snapshots of a config file.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public final class ConfigDiff {
+    private final Config previous;
+    private final Config current;
+    private final List<String> added;
+    private final List<String> removed;
+    private final List<String> changed;
+
+    private ConfigDiff(Config previous, Config current, List<String> added, List<String> removed, List<String> changed) {
+        this.previous = previous;
+        this.current = current;
+        this.added = Collections.unmodifiableList(added);
+        this.removed = Collections.unmodifiableList(removed);
+        this.changed = Collections.unmodifiableList(changed);
+    }
+
+    /**
+     * Compares two snapshots of a config file.
+     *
+     * @param previous The previous snapshot.
+     * @param current The current snapshot.
+     * @return The difference.
+     *
+     * @since 1.4.0
+     */
+    public static ConfigDiff of(Config previous, Config current) {
+        List<String> added = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        List<String> changed = new ArrayList<>();
+        for (int i = 0; i < previous.size(); i++) {
+            String key = previous.getKey(i);
+            int index = current.indexOf(key);
+            if (index < 0) removed.add(key);
+            else if (!previous.getString(i).equals(current.getString(index))) changed.add(key);
+        }
+        for (int i = 0; i < current.size(); i++) {
+            if (!previous.contains(current.getKey(i))) added.add(current.getKey(i));
+        }
+        return new ConfigDiff(previous, current, added, removed, changed);
+    }
+
+    /**
+     * Returns the previous snapshot.
+     *
+     * @return The snapshot before the change.
+     *
+     * @since 1.4.0
+     */
+    public Config getPrevious() {
+        return this.previous;
+    }
+
+    /**
+     * Returns the current snapshot.
+     *
+     * @return The snapshot after the change.
+     *
+     * @since 1.4.0
+     */
+    public Config getCurrent() {
+        return this.current;
+    }
+
+    /**
+     * Returns the keys which were added.
+     *
+     * @return The keys in the order of the current snapshot.
+     *
+     * @since 1.4.0
+     */
+    public List<String> getAdded() {
+        return this.added;
+    }
+
+    /**
+     * Returns the keys which were removed.
+     *
+     * @return The keys in the order of the previous snapshot.
+     *
+     * @since 1.4.0
+     */
+    public List<String> getRemoved() {
+        return this.removed;
+    }
+
+    /**
+     * Returns the keys whose values were changed.
+     *
+     * @return The keys in the order of the previous snapshot.
+     *
+     * @since 1.4.0
+     */
+    public List<String> getChanged() {
+        return this.changed;
+    }
+
+    /**
+     * Returns whether a key was added, removed or changed.
+     *
+     * @param key The key.
+     * @return Whether the value of the key is different.
+     *
+     * @since 1.4.0
+     */
+    public boolean affects(String key) {
+        return this.added.contains(key) || this.removed.contains(key) || this.changed.contains(key);
+    }
+
+    /**
+     * Returns whether both snapshots have the same key value pairs.
+     *
+     * @return Whether nothing was changed.
+     *
+     * @since 1.4.0
+     */
+    public boolean isEmpty() {
+        return this.added.isEmpty() && this.removed.isEmpty() && this.changed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "added=" + this.added + ", removed=" + this.removed + ", changed=" + this.changed;
+    }
+}
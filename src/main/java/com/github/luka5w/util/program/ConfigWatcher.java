@@ -0,0 +1,231 @@
+package com.github.luka5w.util.program;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * ConfigWatcher
+ *
+ * <p>Reloads a config file (see {@link Config}) when it is changed.</p>
+ *
+ * <p>The directory of the file is watched by a daemon thread.
+ * Changes are debounced: the file is reloaded once no further change was seen for the debounce time,
+ * so editors writing the file in multiple steps cause a single reload.
+ * The new snapshot is validated and then published atomically.
+ * Invalid files are reported to the error handler and the previous snapshot is kept.</p>
+ *
+ * <p>{@link #get()} is a single volatile read, so it can be called on hot paths instead of holding a snapshot.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public final class ConfigWatcher implements Closeable {
+    private final File file;
+    private final AtomicReference<Config> config;
+    private final List<Consumer<ConfigDiff>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile long debounceMillis = 200;
+    private volatile Consumer<Config> validator = config -> {};
+    private volatile Consumer<Exception> errorHandler = e -> System.err.println("can't reload config file: " + e.getMessage());
+    private WatchService watchService = null;
+
+    /**
+     * Creates a new watcher and reads the config file.
+     *
+     * @param file The config file.
+     *
+     * @throws IOException When a file operation went wrong.
+     * @throws IllegalArgumentException When the config file is invalid.
+     *
+     * @since 1.4.0
+     */
+    public ConfigWatcher(File file) throws IOException {
+        this(file, Config.load(file));
+    }
+
+    /**
+     * Creates a new watcher.
+     *
+     * @param file The config file.
+     * @param config The current snapshot of the config file.
+     *
+     * @since 1.4.0
+     */
+    public ConfigWatcher(File file, Config config) {
+        this.file = file.getAbsoluteFile();
+        this.config = new AtomicReference<>(config);
+    }
+
+    /**
+     * Returns the current snapshot.
+     *
+     * @return The config.
+     *
+     * @since 1.4.0
+     */
+    public Config get() {
+        return this.config.get();
+    }
+
+    /**
+     * Adds a listener which is called with the difference after each reload which changed the config.
+     * <br />
+     * Listeners are called by the watcher thread.
+     *
+     * @param listener The listener.
+     *
+     * @since 1.4.0
+     */
+    public void addListener(Consumer<ConfigDiff> listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener The listener.
+     *
+     * @since 1.4.0
+     */
+    public void removeListener(Consumer<ConfigDiff> listener) {
+        this.listeners.remove(listener);
+    }
+
+    /**
+     * Sets the validator, which rejects a new snapshot by throwing an {@link IllegalArgumentException}.
+     *
+     * @param validator The validator.
+     *
+     * @since 1.4.0
+     */
+    public void setValidator(Consumer<Config> validator) {
+        this.validator = validator;
+    }
+
+    /**
+     * Sets the handler for config files which can't be read or are invalid and for exceptions thrown by listeners (default: prints to stderr).
+     *
+     * @param errorHandler The handler.
+     *
+     * @since 1.4.0
+     */
+    public void setErrorHandler(Consumer<Exception> errorHandler) {
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Sets the time without further changes after which the config file is reloaded.
+     *
+     * @param millis The debounce time in milliseconds (default: 200).
+     *
+     * @since 1.4.0
+     */
+    public void setDebounce(long millis) {
+        if (millis < 0) throw new IllegalArgumentException("debounce time must not be negative");
+        this.debounceMillis = millis;
+    }
+
+    /**
+     * Starts watching the config file.
+     *
+     * @throws IOException When the directory of the config file can't be watched.
+     *
+     * @since 1.4.0
+     */
+    public synchronized void start() throws IOException {
+        if (this.watchService != null) return;
+        Path dir = this.file.toPath().getParent();
+        WatchService watchService = dir.getFileSystem().newWatchService();
+        dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        this.watchService = watchService;
+        Thread thread = new Thread(() -> this.watch(watchService), "config-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Reloads the config file now.
+     *
+     * @return Whether the config file was valid.
+     *
+     * @since 1.4.0
+     */
+    public synchronized boolean reload() {
+        Config config;
+        try {
+            config = Config.load(this.file);
+            this.validator.accept(config);
+        }
+        catch (IOException | RuntimeException e) {
+            this.errorHandler.accept(e);
+            return false;
+        }
+        ConfigDiff diff = ConfigDiff.of(this.config.getAndSet(config), config);
+        if (!diff.isEmpty()) {
+            for (Consumer<ConfigDiff> listener : this.listeners) {
+                // a failing listener must neither skip the other listeners nor stop the watcher thread
+                try {
+                    listener.accept(diff);
+                }
+                catch (RuntimeException e) {
+                    this.errorHandler.accept(e);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stops watching the config file.
+     *
+     * @throws IOException When the watch service can't be closed.
+     *
+     * @since 1.4.0
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.watchService == null) return;
+        this.watchService.close();
+        this.watchService = null;
+    }
+
+    private void watch(WatchService watchService) {
+        try {
+            while (true) {
+                boolean changed = this.isChanged(watchService.take());
+                // debounce: wait until the file isn't changed anymore
+                WatchKey key;
+                while ((key = watchService.poll(this.debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= this.isChanged(key);
+                }
+                if (changed) this.reload();
+            }
+        }
+        catch (InterruptedException | ClosedWatchServiceException e) {
+            // closed
+        }
+    }
+
+    private boolean isChanged(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || this.file.getName().equals(String.valueOf(event.context()))) changed = true;
+        }
+        key.reset();
+        return changed;
+    }
+}
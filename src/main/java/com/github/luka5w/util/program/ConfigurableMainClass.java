@@ -0,0 +1,51 @@
+package com.github.luka5w.util.program;
+
+import org.apache.commons.cli.CommandLine;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * The interface between {@link Program} and a Main class with a key value config file (see {@link Config}).
+ *
+ * <p>{@link Program} reads and parses the config file once while it is initialized and passes the snapshot to
+ * {@link #main(CommandLine, File, Config)}.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public interface ConfigurableMainClass extends MainClass {
+
+    /**
+     * This method is called when the actual program should execute.
+     *
+     * @param cmd The parsed arguments.
+     * @param configFile The config file.
+     * @param config The parsed config file.
+     * @since 1.4.0
+     */
+    void main(CommandLine cmd, File configFile, Config config);
+
+    /**
+     * Reads the config file and calls {@link #main(CommandLine, File, Config)}.
+     * <br />
+     * <br />
+     * {@link Program} doesn't call this method.
+     *
+     * @param cmd The parsed arguments.
+     * @param configFile The config file.
+     * @since 1.4.0
+     */
+    @Override
+    default void main(CommandLine cmd, File configFile) {
+        try {
+            this.main(cmd, configFile, Config.load(configFile));
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
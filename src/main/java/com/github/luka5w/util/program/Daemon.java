@@ -0,0 +1,320 @@
+package com.github.luka5w.util.program;
+
+import com.github.luka5w.util.cli.ShutdownCoordinator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Daemon
+ *
+ * <p>Runs a program in a resident JVM, so repeated invocations don't pay the JVM startup and warm-up.</p>
+ *
+ * <pre>
+ * public static void main(String[] args) {
+ *     Daemon.launch("mytool", MyTool.class, args, MyTool::run);
+ * }
+ *
+ * static void run(String[] args) {
+ *     Program program = new Program(...);
+ *     program.init();
+ *     program.exec();
+ * }
+ * </pre>
+ *
+ * <p>The first invocation starts the daemon (the same main class in a new JVM).
+ * Every invocation forwards its arguments, working directory and environment to the daemon and
+ * streams back stdout, stderr and the status code. When the daemon can't be started, the program runs locally.
+ * The daemon stops after 15 minutes without requests (see {@link #IDLE_TIMEOUT_PROPERTY}).
+ * Each build of the program (its class path, the size and modification time of its jars and the Java installation)
+ * has its own daemon, so after an upgrade a new daemon is started and the old one stops when it is idle.
+ * Its output is written to a log file next to its socket.</p>
+ *
+ * <p>The daemon listens on a Unix domain socket (Java 16+) or on a loopback TCP port,
+ * both secured by a token only readable by the user.</p>
+ *
+ * <p>Programs running in the daemon must exit with {@link ShutdownCoordinator#exit(int)} (or {@link com.github.luka5w.util.cli.CLIUtils}),
+ * not with {@link System#exit(int)}, and must read the working directory and the environment from
+ * {@link #getWorkingDirectory()} and {@link #getEnvironment()}. Stdin isn't forwarded.</p>
+ *
+ * <p>The request is bound to the thread running the program. Threads of the program (e.g. executors) don't inherit it,
+ * pooled threads would keep it after the request. Tasks which print to the client or read the request must be passed
+ * through {@link #wrap(Runnable)}, everything else writes to the log file of the daemon.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public final class Daemon {
+    /** The system property which marks the JVM as daemon (set to the name of the daemon). */
+    public static final String PROPERTY = "com.github.luka5w.util.daemon";
+    /** The system property with the idle timeout of the daemon in milliseconds. */
+    public static final String IDLE_TIMEOUT_PROPERTY = PROPERTY + ".idleTimeout";
+
+    private static final long DEFAULT_IDLE_TIMEOUT = 15 * 60 * 1000;
+    private static final long START_TIMEOUT = 10000;
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9._-]+");
+    private static final ThreadLocal<Request> REQUEST = new ThreadLocal<>();
+
+    private Daemon() {}
+
+    /**
+     * Runs a program in its daemon, or runs the daemon when called in the daemon JVM.
+     *
+     * <p>This method doesn't return when the program was run by the daemon, it exits with the status code of the program.</p>
+     *
+     * @param name The name of the daemon (letters, digits, '.', '_', '-').
+     * @param mainClass The class with the main method calling this method.
+     * @param args The args passed by the CLI.
+     * @param entry The entry point of the program.
+     *
+     * @since 1.4.0
+     */
+    public static void launch(String name, Class<?> mainClass, String[] args, Consumer<String[]> entry) {
+        if (!NAME.matcher(name).matches()) throw new IllegalArgumentException("invalid daemon name: " + name);
+        if (name.equals(System.getProperty(PROPERTY))) {
+            serve(name, entry);
+            return;
+        }
+        if (AppCds.isTraining()) {
+            // the classes must be loaded by the training JVM
+            entry.accept(args);
+            return;
+        }
+        Integer status = null;
+        try {
+            status = forward(name, mainClass, args);
+        }
+        catch (IOException e) {
+            System.err.println("can't use daemon: " + e.getMessage());
+        }
+        if (status == null) entry.accept(args);
+        else ShutdownCoordinator.exit(status);
+    }
+
+    /**
+     * Returns whether the current thread runs a program for a client of the daemon.
+     *
+     * @return Whether the current thread handles a daemon request.
+     *
+     * @since 1.4.0
+     */
+    public static boolean isRequest() {
+        return REQUEST.get() != null;
+    }
+
+    /**
+     * Returns the working directory of the client or of this JVM.
+     *
+     * @return The working directory.
+     *
+     * @since 1.4.0
+     */
+    public static File getWorkingDirectory() {
+        Request request = REQUEST.get();
+        return request == null ? new File(System.getProperty("user.dir")) : request.cwd;
+    }
+
+    /**
+     * Returns the environment of the client or of this JVM.
+     *
+     * @return The environment (unmodifiable).
+     *
+     * @since 1.4.0
+     */
+    public static Map<String, String> getEnvironment() {
+        Request request = REQUEST.get();
+        return request == null ? System.getenv() : request.env;
+    }
+
+    /**
+     * Resolves a path against the working directory of the client or of this JVM.
+     *
+     * @param path The path.
+     * @return The file.
+     *
+     * @since 1.4.0
+     */
+    public static File resolve(String path) {
+        File file = new File(path);
+        return file.isAbsolute() || REQUEST.get() == null ? file : new File(REQUEST.get().cwd, path);
+    }
+
+    /**
+     * Wraps a task, so it runs with the request of the current thread on any thread.
+     *
+     * <p>The task prints to the client and reads the working directory and the environment of the request.
+     * An exit of the task throws an error ending the task, not the request.</p>
+     *
+     * @param task The task.
+     * @return The wrapped task or the task itself when the current thread doesn't handle a daemon request.
+     *
+     * @since 1.4.0
+     */
+    public static Runnable wrap(Runnable task) {
+        Request request = REQUEST.get();
+        if (request == null) return task;
+        return () -> {
+            Request previous = REQUEST.get();
+            REQUEST.set(request);
+            if (previous == null) DaemonServer.interceptExit();
+            try {
+                task.run();
+            }
+            finally {
+                if (previous == null) ShutdownCoordinator.setExitInterceptor(null);
+                setRequest(previous);
+            }
+        };
+    }
+
+    static Request getRequest() {
+        return REQUEST.get();
+    }
+
+    static void setRequest(Request request) {
+        if (request == null) REQUEST.remove();
+        else REQUEST.set(request);
+    }
+
+    /**
+     * Runs the daemon until it is idle and exits.
+     */
+    private static void serve(String name, Consumer<String[]> entry) {
+        long idleTimeout = Long.getLong(IDLE_TIMEOUT_PROPERTY, DEFAULT_IDLE_TIMEOUT);
+        ServiceRunner[] runner = new ServiceRunner[1];
+        DaemonServer server;
+        try {
+            server = new DaemonServer(name, entry, idleTimeout, () -> runner[0].requestStop());
+        }
+        catch (IOException e) {
+            System.err.println("can't start daemon: " + e.getMessage());
+            ShutdownCoordinator.exit(1);
+            return;
+        }
+        runner[0] = new ServiceRunner(server);
+        ShutdownCoordinator.exit(runner[0].run());
+    }
+
+    /**
+     * Forwards the invocation to the daemon, starting it if necessary.
+     *
+     * @return The status code or null when the daemon can't be reached.
+     */
+    private static Integer forward(String name, Class<?> mainClass, String[] args) throws IOException {
+        Path dir = DaemonProtocol.directory();
+        String build = DaemonProtocol.buildId();
+        Path endpoint = dir.resolve(name + "-" + build + ".endpoint");
+        String[] connection = DaemonProtocol.readEndpoint(endpoint);
+        if (connection != null && !connection[2].equals(build)) connection = null;
+        SocketChannel channel = connection == null ? null : tryConnect(connection[0]);
+        if (channel == null) {
+            spawn(dir, name, mainClass);
+            long deadline = System.nanoTime() + START_TIMEOUT * 1000000;
+            while (channel == null && System.nanoTime() < deadline) {
+                try {
+                    Thread.sleep(20);
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+                String[] current = DaemonProtocol.readEndpoint(endpoint);
+                // an outdated endpoint file may still exist until the new daemon replaced it
+                if (current != null && current[2].equals(build) && (connection == null || !current[1].equals(connection[1]))) {
+                    channel = tryConnect(current[0]);
+                    if (channel != null) connection = current;
+                }
+            }
+            if (channel == null) return null;
+        }
+        try (SocketChannel c = channel) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(c)));
+            out.writeInt(DaemonProtocol.MAGIC);
+            DaemonProtocol.writeString(out, connection[1]);
+            DaemonProtocol.writeString(out, build);
+            DaemonProtocol.writeString(out, System.getProperty("user.dir"));
+            out.writeInt(args.length);
+            for (String arg : args) DaemonProtocol.writeString(out, arg);
+            Map<String, String> env = System.getenv();
+            out.writeInt(env.size());
+            for (Map.Entry<String, String> e : env.entrySet()) {
+                DaemonProtocol.writeString(out, e.getKey());
+                DaemonProtocol.writeString(out, e.getValue());
+            }
+            out.flush();
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(c)));
+            Integer status;
+            while ((status = DaemonProtocol.readFrame(in, System.out, System.err)) == null) {
+                // copy output until the exit frame
+            }
+            return status;
+        }
+        catch (EOFException e) {
+            System.err.println("daemon connection lost");
+            return 1;
+        }
+    }
+
+    private static SocketChannel tryConnect(String endpoint) {
+        try {
+            return DaemonProtocol.connect(endpoint);
+        }
+        catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Starts the daemon in a new JVM with the same class path.
+     */
+    private static void spawn(Path dir, String name, Class<?> mainClass) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add("-D" + PROPERTY + "=" + name);
+        String idleTimeout = System.getProperty(IDLE_TIMEOUT_PROPERTY);
+        if (idleTimeout != null) command.add("-D" + IDLE_TIMEOUT_PROPERTY + "=" + idleTimeout);
+        command.add(mainClass.getName());
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(dir.resolve(name + ".log").toFile()))
+                .start();
+        process.getOutputStream().close();
+    }
+
+    /**
+     * The working directory, the environment and the output streams of a client.
+     */
+    static final class Request {
+        private final File cwd;
+        private final Map<String, String> env;
+        final OutputStream stdout;
+        final OutputStream stderr;
+
+        Request(File cwd, Map<String, String> env, OutputStream stdout, OutputStream stderr) {
+            this.cwd = cwd;
+            this.env = Collections.unmodifiableMap(env);
+            this.stdout = stdout;
+            this.stderr = stderr;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.github.luka5w.util.program;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * DaemonProtocol
+ *
+ * <p>The connection between a {@link Daemon} client and server.</p>
+ *
+ * <p>The server listens on a Unix domain socket (Java 16+) or on a loopback TCP port.
+ * The endpoint and a random token are written to an endpoint file only readable by the user,
+ * so only the same user can connect.</p>
+ *
+ * <p>The files of a daemon are named after the daemon and the build (see {@link #buildId()}),
+ * so a client never forwards to a daemon of another build of the program.</p>
+ *
+ * <p>Request: magic, token, build, working directory, arguments, environment.
+ * Response: frames of stdout and stderr output, terminated by an exit frame with the status code.
+ * Strings are written as length and UTF-8 bytes.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+final class DaemonProtocol {
+    static final int MAGIC = 0x4A554430;
+    static final byte OUT = 1;
+    static final byte ERR = 2;
+    static final byte EXIT = 3;
+
+    private static final int MAX_STRING = 1 << 24;
+    private static final Set<PosixFilePermission> PRIVATE_DIRECTORY = PosixFilePermissions.fromString("rwx------");
+    private static final Set<PosixFilePermission> PRIVATE_FILE = PosixFilePermissions.fromString("rw-------");
+
+    private DaemonProtocol() {}
+
+    /**
+     * Returns the directory of the sockets and endpoint files of the current user.
+     * <br />
+     * On POSIX file systems, an existing directory is only used when it is owned by the user and only accessible by the user,
+     * so other users can't redirect the requests (and the environment sent with them) to their own daemon.
+     *
+     * @return The directory (created with owner-only permissions on POSIX file systems).
+     *
+     * @throws IOException When the directory can't be created or isn't private to the user.
+     */
+    static Path directory() throws IOException {
+        Path dir = Paths.get(System.getProperty("java.io.tmpdir"), "javautils-daemon-" + System.getProperty("user.name"));
+        if (!isPosix(dir)) {
+            Files.createDirectories(dir);
+            return dir;
+        }
+        try {
+            Files.createDirectory(dir, PosixFilePermissions.asFileAttribute(PRIVATE_DIRECTORY));
+        }
+        catch (FileAlreadyExistsException e) {
+            // created before, checked below
+        }
+        PosixFileAttributes attributes = Files.readAttributes(dir, PosixFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        UserPrincipal user = dir.getFileSystem().getUserPrincipalLookupService().lookupPrincipalByName(System.getProperty("user.name"));
+        if (!attributes.isDirectory() || !attributes.owner().equals(user) || !attributes.permissions().equals(PRIVATE_DIRECTORY)) {
+            throw new IOException("daemon directory isn't private to the user: " + dir);
+        }
+        return dir;
+    }
+
+    /**
+     * Returns the identity of the build running in this JVM: a hash of the Java installation, the class path
+     * and the size and modification time of each class path entry.
+     * <br />
+     * Directories are identified by their path and modification time only, so classes recompiled in place aren't detected.
+     *
+     * @return 16 hex digits.
+     */
+    static String buildId() {
+        StringBuilder sb = new StringBuilder(System.getProperty("java.home"));
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            File file = new File(entry);
+            sb.append('\n').append(entry).append(' ').append(file.length()).append(' ').append(file.lastModified());
+        }
+        // FNV-1a, the identity isn't a secret, it only has to change with the build
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < sb.length(); i++) {
+            hash ^= sb.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        String hex = Long.toHexString(hash);
+        return "0000000000000000".substring(hex.length()) + hex;
+    }
+
+    private static boolean isPosix(Path path) {
+        return path.getFileSystem().supportedFileAttributeViews().contains("posix");
+    }
+
+    /**
+     * Opens a server channel on a Unix domain socket or, when not supported, on a loopback TCP port.
+     *
+     * @param socket The path of the Unix domain socket.
+     * @return The bound channel.
+     *
+     * @throws IOException When the channel can't be bound.
+     */
+    static ServerSocketChannel bind(Path socket) throws IOException {
+        SocketAddress address = unixAddress(socket);
+        if (address != null) {
+            Files.deleteIfExists(socket);
+            ServerSocketChannel server = (ServerSocketChannel) openUnix(ServerSocketChannel.class);
+            server.bind(address);
+            return server;
+        }
+        ServerSocketChannel server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        return server;
+    }
+
+    /**
+     * Connects to an endpoint written by {@link #writeEndpoint(Path, ServerSocketChannel, Path, String, String)}.
+     *
+     * @param endpoint The endpoint: "unix &lt;path&gt;" or "tcp &lt;port&gt;".
+     * @return The connected channel.
+     *
+     * @throws IOException When the server can't be reached.
+     */
+    static SocketChannel connect(String endpoint) throws IOException {
+        if (endpoint.startsWith("unix ")) {
+            SocketAddress address = unixAddress(Paths.get(endpoint.substring(5)));
+            if (address == null) throw new IOException("unix domain sockets aren't supported");
+            SocketChannel channel = (SocketChannel) openUnix(SocketChannel.class);
+            try {
+                channel.connect(address);
+            }
+            catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+            return channel;
+        }
+        if (endpoint.startsWith("tcp ")) {
+            return SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(endpoint.substring(4))));
+        }
+        throw new IOException("invalid endpoint: " + endpoint);
+    }
+
+    /**
+     * Writes the endpoint file (atomically, only readable by the user).
+     */
+    static void writeEndpoint(Path file, ServerSocketChannel server, Path socket, String token, String build) throws IOException {
+        SocketAddress address = server.getLocalAddress();
+        String endpoint = address instanceof InetSocketAddress ? "tcp " + ((InetSocketAddress) address).getPort() : "unix " + socket;
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.deleteIfExists(tmp);
+        // the token must never be readable by others, so the file is created with owner-only permissions
+        Set<StandardOpenOption> options = EnumSet.of(StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        ByteBuffer content = ByteBuffer.wrap((endpoint + "\n" + token + "\n" + build + "\n").getBytes(StandardCharsets.UTF_8));
+        try (SeekableByteChannel channel = isPosix(tmp)
+                ? Files.newByteChannel(tmp, options, PosixFilePermissions.asFileAttribute(PRIVATE_FILE))
+                : Files.newByteChannel(tmp, options)) {
+            while (content.hasRemaining()) channel.write(content);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads the endpoint file.
+     *
+     * @return The endpoint, the token and the build or null when there is no valid endpoint file.
+     */
+    static String[] readEndpoint(Path file) {
+        try {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            return lines.size() < 3 ? null : new String[] { lines.get(0), lines.get(1), lines.get(2) };
+        }
+        catch (IOException e) {
+            return null;
+        }
+    }
+
+    static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_STRING) throw new IOException("invalid string length: " + length);
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a response frame and writes its content to stdout or stderr.
+     *
+     * @return The status code when it was the exit frame, otherwise null.
+     *
+     * @throws EOFException When the connection was closed before the exit frame.
+     */
+    static Integer readFrame(DataInputStream in, OutputStream out, OutputStream err) throws IOException {
+        byte kind = in.readByte();
+        if (kind == EXIT) return in.readInt();
+        int length = in.readInt();
+        if (length < 0 || length > MAX_STRING) throw new IOException("invalid frame length: " + length);
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        if (kind == OUT) out.write(bytes);
+        else if (kind == ERR) err.write(bytes);
+        else throw new IOException("invalid frame: " + kind);
+        return null;
+    }
+
+    /**
+     * An output stream writing stdout or stderr frames. Both streams of a connection share the same lock.
+     */
+    static final class FrameOutputStream extends OutputStream {
+        private final DataOutputStream out;
+        private final byte kind;
+
+        FrameOutputStream(DataOutputStream out, byte kind) {
+            this.out = out;
+            this.kind = kind;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            this.write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len == 0) return;
+            synchronized (this.out) {
+                this.out.writeByte(this.kind);
+                this.out.writeInt(len);
+                this.out.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (this.out) {
+                this.out.flush();
+            }
+        }
+    }
+
+    private static SocketAddress unixAddress(Path path) {
+        try {
+            return (SocketAddress) Class.forName("java.net.UnixDomainSocketAddress").getMethod("of", Path.class).invoke(null, path);
+        }
+        catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Object openUnix(Class<?> channel) throws IOException {
+        try {
+            ProtocolFamily unix = StandardProtocolFamily.valueOf("UNIX");
+            return channel.getMethod("open", ProtocolFamily.class).invoke(null, unix);
+        }
+        catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IOException("can't open unix domain socket", e);
+        }
+    }
+}
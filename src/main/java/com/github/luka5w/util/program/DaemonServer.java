@@ -0,0 +1,303 @@
+package com.github.luka5w.util.program;
+
+import com.github.luka5w.util.cli.LineInput;
+import com.github.luka5w.util.cli.ShutdownCoordinator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * DaemonServer
+ *
+ * <p>The resident server of a {@link Daemon}, which runs the entry point of a program for each client request.</p>
+ *
+ * <p>Each request runs on a worker thread. {@link System#out} and {@link System#err} are routed to the client of the
+ * current thread, exits through {@link ShutdownCoordinator#exit(int)} end the request instead of the JVM.
+ * The request isn't inherited by other threads, see {@link Daemon#wrap(Runnable)}.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+final class DaemonServer implements Service {
+    private static final int MAX_ENTRIES = 1 << 16;
+    private static Router out = null;
+    private static Router err = null;
+
+    private final Consumer<String[]> entry;
+    private final long idleTimeout;
+    private final Runnable onIdle;
+    private final Path socket;
+    private final Path endpoint;
+    private final Path lock;
+    private final String token;
+    private final String build;
+    private final AtomicInteger active = new AtomicInteger();
+
+    private volatile long lastActivity = System.nanoTime();
+    private volatile boolean closed = false;
+    private FileChannel lockChannel = null;
+    private FileLock fileLock = null;
+    private ServerSocketChannel server = null;
+
+    /**
+     * Creates a new server.
+     *
+     * @param name The name of the daemon.
+     * @param entry The entry point of the program.
+     * @param idleTimeout The time without requests in milliseconds after which onIdle is called.
+     * @param onIdle Requests the server to stop.
+     *
+     * @throws IOException When the daemon directory can't be created.
+     */
+    DaemonServer(String name, Consumer<String[]> entry, long idleTimeout, Runnable onIdle) throws IOException {
+        Path dir = DaemonProtocol.directory();
+        this.entry = entry;
+        this.idleTimeout = idleTimeout;
+        this.onIdle = onIdle;
+        this.build = DaemonProtocol.buildId();
+        String id = name + "-" + this.build;
+        this.socket = dir.resolve(id + ".sock");
+        this.endpoint = dir.resolve(id + ".endpoint");
+        this.lock = dir.resolve(id + ".lock");
+        byte[] random = new byte[16];
+        new SecureRandom().nextBytes(random);
+        StringBuilder sb = new StringBuilder();
+        for (byte b : random) sb.append(String.format("%02x", b));
+        this.token = sb.toString();
+    }
+
+    @Override
+    public void start(ExecutorService workers) throws Exception {
+        this.lockChannel = FileChannel.open(this.lock, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        this.fileLock = this.lockChannel.tryLock();
+        if (this.fileLock == null) throw new IOException("daemon is already running");
+        this.server = DaemonProtocol.bind(this.socket);
+        DaemonProtocol.writeEndpoint(this.endpoint, this.server, this.socket, this.token, this.build);
+        install();
+        workers.execute(() -> this.accept(workers));
+        Thread watchdog = new Thread(this::watchdog, "daemon-watchdog");
+        watchdog.setDaemon(true);
+        watchdog.start();
+    }
+
+    @Override
+    public void drain() {
+        this.closed = true;
+        try {
+            this.server.close();
+        }
+        catch (IOException e) {
+            // closed anyway
+        }
+    }
+
+    @Override
+    public void stop() throws Exception {
+        Files.deleteIfExists(this.endpoint);
+        Files.deleteIfExists(this.socket);
+        if (this.fileLock != null) this.fileLock.release();
+        if (this.lockChannel != null) this.lockChannel.close();
+    }
+
+    private void accept(ExecutorService workers) {
+        while (!this.closed) {
+            SocketChannel channel;
+            try {
+                channel = this.server.accept();
+            }
+            catch (IOException e) {
+                if (!this.closed) System.err.println("can't accept daemon client: " + e.getMessage());
+                return;
+            }
+            this.active.incrementAndGet();
+            try {
+                workers.execute(() -> this.handle(channel));
+            }
+            catch (RejectedExecutionException e) {
+                this.done();
+                try {
+                    channel.close();
+                }
+                catch (IOException ignored) {
+                    // closed anyway
+                }
+            }
+        }
+    }
+
+    private void watchdog() {
+        while (!this.closed) {
+            try {
+                Thread.sleep(Math.min(this.idleTimeout, 1000));
+            }
+            catch (InterruptedException e) {
+                return;
+            }
+            if (this.active.get() == 0 && (System.nanoTime() - this.lastActivity) / 1000000 >= this.idleTimeout) {
+                this.onIdle.run();
+                return;
+            }
+        }
+    }
+
+    private void done() {
+        this.lastActivity = System.nanoTime();
+        this.active.decrementAndGet();
+    }
+
+    private void handle(SocketChannel channel) {
+        try (SocketChannel c = channel) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(c)));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(c)));
+            if (in.readInt() != DaemonProtocol.MAGIC || !this.token.equals(DaemonProtocol.readString(in))) return;
+            // a client of another build must not run in the classes of this build
+            if (!this.build.equals(DaemonProtocol.readString(in))) return;
+            File cwd = new File(DaemonProtocol.readString(in));
+            int argc = in.readInt();
+            if (argc < 0 || argc > MAX_ENTRIES) return;
+            String[] args = new String[argc];
+            for (int i = 0; i < argc; i++) args[i] = DaemonProtocol.readString(in);
+            int envc = in.readInt();
+            if (envc < 0 || envc > MAX_ENTRIES) return;
+            Map<String, String> env = new HashMap<>();
+            for (int i = 0; i < envc; i++) env.put(DaemonProtocol.readString(in), DaemonProtocol.readString(in));
+            OutputStream stdout = new BufferedOutputStream(new DaemonProtocol.FrameOutputStream(out, DaemonProtocol.OUT));
+            OutputStream stderr = new BufferedOutputStream(new DaemonProtocol.FrameOutputStream(out, DaemonProtocol.ERR));
+            int status = this.run(args, new Daemon.Request(cwd, env, stdout, stderr));
+            synchronized (out) {
+                out.writeByte(DaemonProtocol.EXIT);
+                out.writeInt(status);
+                out.flush();
+            }
+        }
+        catch (IOException e) {
+            // the client is gone
+        }
+        finally {
+            this.done();
+        }
+    }
+
+    /**
+     * Runs the entry point with the streams and the exit routed to the client.
+     *
+     * @return The status code.
+     */
+    private int run(String[] args, Daemon.Request request) {
+        Daemon.setRequest(request);
+        interceptExit();
+        int status = 0;
+        try {
+            this.entry.accept(args);
+        }
+        catch (Exit e) {
+            status = e.status;
+        }
+        catch (Throwable e) {
+            // report to the client like an uncaught exception of a program
+            System.err.print("Exception in daemon request: ");
+            e.printStackTrace(System.err);
+            status = 1;
+        }
+        finally {
+            System.out.flush();
+            System.err.flush();
+            ShutdownCoordinator.setExitInterceptor(null);
+            // the next request on this thread must not read the rest of the answers
+            LineInput.setForThread(null);
+            Daemon.setRequest(null);
+        }
+        return status;
+    }
+
+    /**
+     * Ends the request of the current thread on exits through {@link ShutdownCoordinator#exit(int)}.
+     */
+    static void interceptExit() {
+        ShutdownCoordinator.setExitInterceptor(status -> {
+            throw new Exit(status);
+        });
+    }
+
+    /**
+     * Replaces {@link System#out} and {@link System#err} with streams routed to the client of the current thread.
+     */
+    private static synchronized void install() {
+        if (out != null) return;
+        out = new Router(System.out, false);
+        err = new Router(System.err, true);
+        System.setOut(new PrintStream(out, true));
+        System.setErr(new PrintStream(err, true));
+    }
+
+    /**
+     * An output stream which writes to the client of the request of the current thread or to the original stream.
+     */
+    private static final class Router extends OutputStream {
+        private final OutputStream fallback;
+        private final boolean stderr;
+
+        private Router(OutputStream fallback, boolean stderr) {
+            this.fallback = fallback;
+            this.stderr = stderr;
+        }
+
+        private OutputStream get() {
+            Daemon.Request request = Daemon.getRequest();
+            if (request == null) return this.fallback;
+            return this.stderr ? request.stderr : request.stdout;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            this.get().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            this.get().write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            this.get().flush();
+        }
+    }
+
+    /**
+     * Unwinds a request when the program exits.
+     */
+    static final class Exit extends Error {
+        private static final long serialVersionUID = 1L;
+
+        private final int status;
+
+        private Exit(int status) {
+            super(null, null, false, false);
+            this.status = status;
+        }
+    }
+}
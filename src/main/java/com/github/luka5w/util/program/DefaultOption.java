@@ -6,11 +6,23 @@ package com.github.luka5w.util.program;
  * GitHub: https://github.com/luka5w/javautils
  *
  * @author Lukas // https://github.com/luka5w
- * @version 1.0.0
+ * @version 1.1.0
  */
 public enum DefaultOption {
     HELP,
     VERSION,
     CONFIG,
-    SETUP;
+    SETUP,
+    /**
+     * --profile-startup (not enabled by default, see {@link Program#getStartupProfile()}).
+     *
+     * @since 1.4.0
+     */
+    PROFILE_STARTUP,
+    /**
+     * --answers FILE (not enabled by default, see {@link com.github.luka5w.util.cli.LineInput}).
+     *
+     * @since 1.4.0
+     */
+    ANSWERS;
 }
@@ -11,7 +11,7 @@ import java.io.File;
  * GitHub: https://github.com/luka5w/javautils
  *
  * @author Lukas // https://github.com/luka5w
- * @version 1.0.0
+ * @version 1.1.0
  */
 public interface MainClass {
 
@@ -22,6 +22,8 @@ public interface MainClass {
      * This method is called when {@link Program} is initialized.
      * <br />
      * This method is processed after the default options are set.
+     * <br />
+     * The options are cached per main class, so they must not depend on the state of the instance.
      *
      * @param options The options.
      * @since 1.0.0
@@ -48,4 +50,16 @@ public interface MainClass {
      * @since 1.0.0
      */
     void main(CommandLine cmd, File configFile);
+
+    /**
+     * This method is called instead of main when the program runs in training mode (see {@link AppCds}).
+     * <br />
+     * <br />
+     * It should load the classes the program uses at startup (e.g. by parsing a sample input) without side effects.
+     *
+     * @param cmd The parsed arguments.
+     * @param configFile The config file.
+     * @since 1.4.0
+     */
+    default void train(CommandLine cmd, File configFile) {}
 }
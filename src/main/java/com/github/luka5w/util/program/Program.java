@@ -1,7 +1,9 @@
 package com.github.luka5w.util.program;
 
 import com.github.luka5w.util.cli.CLIUtils;
+import com.github.luka5w.util.cli.LineInput;
 import com.github.luka5w.util.cli.Prompt;
+import com.github.luka5w.util.cli.ShutdownCoordinator;
 import com.github.luka5w.util.data.FileUtils;
 import com.github.luka5w.util.exception.PreconditionNotMetException;
 import org.apache.commons.cli.*;
@@ -10,7 +12,8 @@ import javax.naming.NoPermissionException;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.util.Arrays;
+import java.io.PrintWriter;
+import java.io.StringWriter;
 
 /**
  * A class to initiate programs.
@@ -18,7 +21,7 @@ import java.util.Arrays;
  * GitHub: https://github.com/luka5w/javautils
  *
  * @author Lukas // https://github.com/luka5w
- * @version 1.0.0
+ * @version 1.1.0
  */
 public class Program {
 
@@ -31,7 +34,7 @@ public class Program {
 
     private final MainClass mainClass;
     private final String[] args;
-    private final Options options;
+    private final CompiledOptions options;
     private final String programName;
     private final String programVersion;
     private final String helpHeader;
@@ -39,6 +42,9 @@ public class Program {
     private final boolean helpAutoUsage;
 
     private File configFile;
+    private Config config = null;
+    private final StartupProfile profile = new StartupProfile();
+
     private CommandLine cmd = null;
     private boolean initialized = false;
 
@@ -58,6 +64,7 @@ public class Program {
         this.mainClass = mainClass;
         this.args = args;
         this.options = this.createOptions(DEFAULT_OPTIONS);
+        this.profile.mark("createOptions");
         this.configFile = defaultConfigFile;
         this.programName = programName;
         this.programVersion = programVersion;
@@ -84,6 +91,7 @@ public class Program {
         this.mainClass = mainClass;
         this.args = args;
         this.options = this.createOptions(defaultOptions);
+        this.profile.mark("createOptions");
         this.configFile = defaultConfigFile;
         this.programName = programName;
         this.programVersion = programVersion;
@@ -108,13 +116,16 @@ public class Program {
         catch (ParseException e) {
             CLIUtils.logAndExit(e.getMessage(), 1);
         } /// exit 1
+        this.profile.mark("parseArguments");
 
         // Determine, which config file to use (from arguments or default one)
         this.setConfigFile();
+        this.profile.mark("setConfigFile");
 
         // Process commands (not the main program)
         if (this.cmd.hasOption("v")) CLIUtils.logAndExit(this.programVersion, 0); /// exit 0
         if (this.cmd.hasOption("h")) printHelp(); /// exit 0
+        if (this.options.isEnabled(DefaultOption.ANSWERS) && this.cmd.hasOption("answers")) this.setAnswers();
         if (this.cmd.hasOption("setup")) setup(); // exit -1, 0, 1
 
         // Check config file
@@ -127,6 +138,18 @@ public class Program {
         catch (FileNotFoundException | NoPermissionException e) {
             CLIUtils.logAndExit(e.getMessage() + "\nif the config file does not exist, please create one using --setup\nif it exist, make sure you have read permissions", 1);
         } /// exit 1
+        this.profile.mark("checkConfigFile");
+
+        // Parse config file once (only for main classes which use a key value config)
+        if (this.mainClass instanceof ConfigurableMainClass) {
+            try {
+                this.config = Config.load(this.configFile);
+            }
+            catch (IOException | IllegalArgumentException e) {
+                CLIUtils.logAndExit("can't read config file: " + e.getMessage(), 1);
+            } /// exit 1
+            this.profile.mark("loadConfig");
+        }
 
         // Mark as initiated
         this.initialized = true;
@@ -139,11 +162,64 @@ public class Program {
      */
     /*@ requires initialized == true @*/ public void exec() {
         if (!this.initialized) CLIUtils.logAndExit("can't execute program: ", new PreconditionNotMetException("not initialized")); /// exit -1
-        this.mainClass.main(this.cmd, this.configFile);
+        this.handOff("main");
+        if (AppCds.isTraining()) {
+            // load the classes of the help output and let the main class load its classes
+            new HelpFormatter().printHelp(new PrintWriter(new StringWriter()), HelpFormatter.DEFAULT_WIDTH, this.programName + "-" + this.programVersion, this.helpHeader, this.options.getOptions(), HelpFormatter.DEFAULT_LEFT_PAD, HelpFormatter.DEFAULT_DESC_PAD, this.helpFooter, true);
+            this.mainClass.train(this.cmd, this.configFile);
+            return;
+        }
+        if (this.config != null) ((ConfigurableMainClass) this.mainClass).main(this.cmd, this.configFile, this.config);
+        else this.mainClass.main(this.cmd, this.configFile);
+    }
+
+    /**
+     * Returns the startup profile of this program.
+     *
+     * <p>The profile is printed to stderr before the main class takes over when the --profile-startup option is passed.</p>
+     *
+     * @return The profile.
+     *
+     * @since 1.4.0
+     */
+    public StartupProfile getStartupProfile() {
+        return this.profile;
+    }
+
+    /**
+     * Returns the parsed config file.
+     *
+     * @return The config or null when the program isn't initialized or the main class isn't a {@link ConfigurableMainClass}.
+     *
+     * @since 1.4.0
+     */
+    public Config getConfig() {
+        return this.config;
+    }
+
+    /**
+     * Starts watching the config file for changes.
+     * <br />
+     * The watcher starts with the config parsed while initializing (or reads the config file).
+     *
+     * @return The started watcher. See {@link ConfigWatcher#get()}.
+     *
+     * @throws IOException When the config file can't be read or watched.
+     * @throws IllegalArgumentException When the config file is invalid.
+     *
+     * @since 1.4.0
+     */
+    /*@ requires initialized == true @*/ public ConfigWatcher watchConfig() throws IOException {
+        if (!this.initialized) throw new PreconditionNotMetException("not initialized");
+        ConfigWatcher watcher = this.config != null ? new ConfigWatcher(this.configFile, this.config) : new ConfigWatcher(this.configFile);
+        watcher.start();
+        return watcher;
     }
 
     /**
      * Defines all valid options.
+     * <br />
+     * The options are built once per main class and set of default options and shared by all programs.
      *
      * @param defaultOptions The default options which should be enabled.
      *
@@ -151,14 +227,8 @@ public class Program {
      *
      * @since 1.0.0
      */
-    private Options createOptions(DefaultOption[] defaultOptions) {
-        Options options = new Options();
-        if (Arrays.stream(defaultOptions).anyMatch(t -> t.equals(DefaultOption.HELP))) options.addOption(Option.builder("h").longOpt("help").desc("displays this help").build());
-        if (Arrays.stream(defaultOptions).anyMatch(t -> t.equals(DefaultOption.VERSION))) options.addOption(Option.builder("v").longOpt("version").desc("displays the current version").build());
-        if (Arrays.stream(defaultOptions).anyMatch(t -> t.equals(DefaultOption.CONFIG))) options.addOption(Option.builder("c").longOpt("config").hasArg(true).argName("FILE").desc("execute program with custom config file").build());
-        if (Arrays.stream(defaultOptions).anyMatch(t -> t.equals(DefaultOption.SETUP))) options.addOption(Option.builder().longOpt("setup").desc("starts an user interface to create (or overwrite!) the default config file\nuse -c option to change the location").build());
-        this.mainClass.getOptions(options);
-        return options;
+    private CompiledOptions createOptions(DefaultOption[] defaultOptions) {
+        return CompiledOptions.get(this.mainClass.getClass(), defaultOptions, this.mainClass::getOptions);
     }
 
     /**
@@ -167,17 +237,50 @@ public class Program {
      * @since 1.0.0
      */
     private void parseArguments() throws ParseException {
-        CommandLineParser parser = new DefaultParser();
-        this.cmd = parser.parse(this.options, this.args);
+        this.cmd = this.options.parse(this.args);
     }
 
     /**
      * Checks if the use-config option is passed and replaces the default config file with the passed one.
+     * <br />
+     * Relative paths are resolved against the working directory of the client when running in a {@link Daemon}.
      *
      * @since 1.0.0
      */
     private void setConfigFile() {
-        this.configFile = (this.cmd.hasOption("c") ? new File(this.cmd.getOptionValue("c")) : this.configFile);
+        this.configFile = (this.cmd.hasOption("c") ? Daemon.resolve(this.cmd.getOptionValue("c")) : this.configFile);
+    }
+
+    /**
+     * Ends the startup profile and prints it when the --profile-startup option is passed.
+     *
+     * @param phase The name of the last phase.
+     *
+     * @since 1.4.0
+     */
+    private void handOff(String phase) {
+        this.profile.handOff(phase);
+        if (this.options.isEnabled(DefaultOption.PROFILE_STARTUP) && this.cmd.hasOption("profile-startup")) this.profile.print(System.err);
+    }
+
+    /**
+     * Replaces the input of all prompts (of the current request in a daemon) with the answers of the file passed with the --answers option.
+     * <br />
+     * <br />
+     * Exits with 1 when the file can't be read.
+     *
+     * @since 1.4.0
+     */
+    private void setAnswers() {
+        try {
+            LineInput input = LineInput.fromFile(Daemon.resolve(this.cmd.getOptionValue("answers")).toPath());
+            // a daemon runs requests concurrently, the answers belong to this request only
+            if (Daemon.isRequest()) LineInput.setForThread(input);
+            else LineInput.set(input);
+        }
+        catch (IOException e) {
+            CLIUtils.logAndExit("can't read answer file: " + e.getMessage(), 1);
+        } /// exit 1
     }
 
     /**
@@ -193,8 +296,8 @@ public class Program {
      */
     private void printHelp() {
         HelpFormatter formatter = new HelpFormatter();
-        formatter.printHelp(this.programName + "-" + this.programVersion, this.helpHeader, this.options, this.helpFooter, true);
-        System.exit(0);
+        formatter.printHelp(this.programName + "-" + this.programVersion, this.helpHeader, this.options.getOptions(), this.helpFooter, true);
+        ShutdownCoordinator.exit(0);
     } /// exit 0
 
     /**
@@ -241,11 +344,18 @@ public class Program {
             } /// exit -1
         }
         try {
+            this.handOff("setup");
             this.mainClass.setup(this.cmd, this.configFile);
-            CLIUtils.logAndExit("setup completed", 0);
+        }
+        catch (DaemonServer.Exit e) {
+            // the setup exited in the daemon
+            throw e;
         }
         catch (Throwable e) {
             CLIUtils.logAndExit("setup aborted: ", e);
-        }
+            return;
+        } /// exit -1
+        // outside of the try block, an exit interceptor may throw to unwind the exit
+        CLIUtils.logAndExit("setup completed", 0);
     }/// exit -1, 0, 1
 }
@@ -0,0 +1,52 @@
+package com.github.luka5w.util.program;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * The interface of a long-running program, which is run by a {@link ServiceRunner}.
+ *
+ * <p>The lifecycle of a service is: {@link #start(ExecutorService)}, {@link #ready()},
+ * then (after a stop was requested, e.g. by SIGTERM) {@link #drain()} and {@link #stop()}.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public interface Service {
+
+    /**
+     * Starts the service (e.g. opens sockets) and returns once it is running.
+     *
+     * @param workers The executor for the work of the service.
+     *                It is shut down by the runner while draining, so tasks should only be submitted until {@link #drain()} is called.
+     * @throws Exception When the service can't be started. The service is stopped then.
+     * @since 1.4.0
+     */
+    void start(ExecutorService workers) throws Exception;
+
+    /**
+     * This method is called after the service was started.
+     *
+     * @since 1.4.0
+     */
+    default void ready() {}
+
+    /**
+     * Stops accepting new work.
+     * <br />
+     * <br />
+     * Afterwards, the runner waits until all submitted tasks are done or the drain deadline is exceeded.
+     *
+     * @since 1.4.0
+     */
+    default void drain() {}
+
+    /**
+     * Releases all resources of the service.
+     *
+     * @throws Exception When the service can't be stopped cleanly.
+     * @since 1.4.0
+     */
+    void stop() throws Exception;
+}
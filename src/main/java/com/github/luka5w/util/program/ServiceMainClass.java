@@ -0,0 +1,49 @@
+package com.github.luka5w.util.program;
+
+import com.github.luka5w.util.cli.ShutdownCoordinator;
+import org.apache.commons.cli.CommandLine;
+
+import java.io.File;
+
+/**
+ * The interface between {@link Program} and the Main class of a long-running program (see {@link Service}).
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public interface ServiceMainClass extends MainClass {
+
+    /**
+     * Creates the service which is run by {@link #main(CommandLine, File)}.
+     *
+     * @param cmd The parsed arguments.
+     * @param configFile The config file.
+     * @return The service.
+     * @since 1.4.0
+     */
+    Service createService(CommandLine cmd, File configFile);
+
+    /**
+     * Configures the runner of the service (e.g. the drain deadline) before the service is started.
+     *
+     * @param runner The runner.
+     * @since 1.4.0
+     */
+    default void configure(ServiceRunner runner) {}
+
+    /**
+     * Runs the service until it is stopped and exits with the status of the runner.
+     *
+     * @param cmd The parsed arguments.
+     * @param configFile The config file.
+     * @since 1.4.0
+     */
+    @Override
+    default void main(CommandLine cmd, File configFile) {
+        ServiceRunner runner = new ServiceRunner(this.createService(cmd, configFile));
+        this.configure(runner);
+        ShutdownCoordinator.exit(runner.run());
+    }
+}
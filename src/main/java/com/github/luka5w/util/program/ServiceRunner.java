@@ -0,0 +1,209 @@
+package com.github.luka5w.util.program;
+
+import com.github.luka5w.util.cli.ShutdownCoordinator;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ServiceRunner
+ *
+ * <p>Runs a {@link Service} until a stop is requested and shuts it down gracefully.</p>
+ *
+ * <p>A stop is requested by {@link #requestStop()} or when the JVM shuts down (e.g. SIGTERM or {@link ShutdownCoordinator#exit(int)}).
+ * The service is drained then: it stops accepting new work and the submitted tasks may finish until the drain deadline.
+ * Remaining tasks are interrupted, then the service is stopped.</p>
+ *
+ * <p>The workers run on virtual threads when the JVM supports them (Java 21+), otherwise on a cached pool of daemon threads.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public final class ServiceRunner {
+
+    /**
+     * The lifecycle states of a service.
+     */
+    public enum State {
+        NEW,
+        STARTING,
+        READY,
+        DRAINING,
+        STOPPED
+    }
+
+    private final Service service;
+    private final CountDownLatch stopRequested = new CountDownLatch(1);
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    private volatile State state = State.NEW;
+    private volatile long drainDeadline = 10000;
+
+    /**
+     * Creates a new runner.
+     *
+     * @param service The service to run.
+     *
+     * @since 1.4.0
+     */
+    public ServiceRunner(Service service) {
+        this.service = service;
+    }
+
+    /**
+     * Sets the maximal time the submitted tasks may take to finish after a stop was requested.
+     *
+     * @param millis The deadline in milliseconds (default: 10 seconds).
+     *
+     * @since 1.4.0
+     */
+    public void setDrainDeadline(long millis) {
+        if (millis <= 0) throw new IllegalArgumentException("deadline must be positive");
+        this.drainDeadline = millis;
+    }
+
+    /**
+     * Returns the current state of the service.
+     *
+     * @return The state.
+     *
+     * @since 1.4.0
+     */
+    public State getState() {
+        return this.state;
+    }
+
+    /**
+     * Requests the service to stop. {@link #run()} returns once the service is stopped.
+     *
+     * @since 1.4.0
+     */
+    public void requestStop() {
+        this.stopRequested.countDown();
+    }
+
+    /**
+     * Starts the service and blocks until it is stopped.
+     *
+     * @return The exit status: 0 when the service was stopped cleanly, otherwise 1.
+     *
+     * @throws IllegalStateException When the runner was already started.
+     *
+     * @since 1.4.0
+     */
+    public int run() {
+        synchronized (this) {
+            if (this.state != State.NEW) throw new IllegalStateException("service already started");
+            this.state = State.STARTING;
+        }
+        Thread hook = new Thread(this::shutdownHook, "service-shutdown");
+        Runtime.getRuntime().addShutdownHook(hook);
+        ExecutorService workers = newWorkerExecutor("service-worker");
+        boolean clean = true;
+        try {
+            this.service.start(workers);
+            this.state = State.READY;
+            this.service.ready();
+            this.stopRequested.await();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        catch (Exception e) {
+            System.err.println("service failed: " + message(e));
+            clean = false;
+        }
+        clean &= this.shutdown(workers);
+        try {
+            Runtime.getRuntime().removeShutdownHook(hook);
+        }
+        catch (IllegalStateException e) {
+            // the JVM is already shutting down, the hook is waiting for this runner
+        }
+        this.stopped.countDown();
+        return clean ? 0 : 1;
+    }
+
+    /**
+     * Creates an executor which runs every task in a new virtual thread (Java 21+),
+     * or in a cached pool of daemon threads when virtual threads aren't supported.
+     *
+     * @param name The name prefix of the platform threads.
+     * @return The executor.
+     *
+     * @since 1.4.0
+     */
+    public static ExecutorService newWorkerExecutor(String name) {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        }
+        catch (ReflectiveOperationException | RuntimeException e) {
+            AtomicInteger count = new AtomicInteger();
+            return Executors.newCachedThreadPool(r -> {
+                Thread thread = new Thread(r, name + "-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Drains and stops the service.
+     *
+     * @return Whether the service was stopped cleanly.
+     */
+    private boolean shutdown(ExecutorService workers) {
+        boolean clean = true;
+        this.state = State.DRAINING;
+        try {
+            this.service.drain();
+        }
+        catch (RuntimeException e) {
+            System.err.println("can't drain service: " + message(e));
+            clean = false;
+        }
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(this.drainDeadline, TimeUnit.MILLISECONDS)) {
+                System.err.println("drain deadline of " + this.drainDeadline + " ms exceeded, interrupting remaining tasks");
+                workers.shutdownNow();
+            }
+        }
+        catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        try {
+            this.service.stop();
+        }
+        catch (Exception e) {
+            System.err.println("can't stop service: " + message(e));
+            clean = false;
+        }
+        this.state = State.STOPPED;
+        return clean;
+    }
+
+    private void shutdownHook() {
+        this.requestStop();
+        try {
+            // wait for the drain, the stop itself gets the same time again
+            this.stopped.await(2 * this.drainDeadline, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        ShutdownCoordinator.flush();
+    }
+
+    private static String message(Throwable e) {
+        return e.getMessage() == null || e.getMessage().equals("") ? e.getClass().getName() : e.getMessage();
+    }
+}
@@ -9,7 +9,7 @@ import org.apache.commons.cli.Options;
  * GitHub: https://github.com/luka5w/javautils
  *
  * @author Lukas // https://github.com/luka5w
- * @version 1.0.0
+ * @version 1.1.0
  */
 public interface SmallMainClass {
 
@@ -20,6 +20,8 @@ public interface SmallMainClass {
      * This method is called when {@link SmallProgram} is initialized.
      * <br />
      * This method is processed after the default options are set.
+     * <br />
+     * The options are cached per main class, so they must not depend on the state of the instance.
      *
      * @param options The options.
      * @since 1.0.0
@@ -44,4 +46,15 @@ public interface SmallMainClass {
      * @since 1.0.0
      */
     void main(CommandLine cmd);
+
+    /**
+     * This method is called instead of main when the program runs in training mode (see {@link AppCds}).
+     * <br />
+     * <br />
+     * It should load the classes the program uses at startup (e.g. by parsing a sample input) without side effects.
+     *
+     * @param cmd The parsed arguments.
+     * @since 1.4.0
+     */
+    default void train(CommandLine cmd) {}
 }
@@ -1,7 +1,9 @@
 package com.github.luka5w.util.program;
 
 import com.github.luka5w.util.cli.CLIUtils;
+import com.github.luka5w.util.cli.LineInput;
 import com.github.luka5w.util.cli.Prompt;
+import com.github.luka5w.util.cli.ShutdownCoordinator;
 import com.github.luka5w.util.data.FileUtils;
 import com.github.luka5w.util.exception.PreconditionNotMetException;
 import org.apache.commons.cli.*;
@@ -10,7 +12,8 @@ import javax.naming.NoPermissionException;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.util.Arrays;
+import java.io.PrintWriter;
+import java.io.StringWriter;
 
 /**
  * A class to initiate simple programs.
@@ -18,7 +21,7 @@ import java.util.Arrays;
  * GitHub: https://github.com/luka5w/javautils
  *
  * @author Lukas // https://github.com/luka5w
- * @version 1.0.0
+ * @version 1.1.0
  */
 public class SmallProgram {
 
@@ -30,13 +33,15 @@ public class SmallProgram {
 
     private final SmallMainClass mainClass;
     private final String[] args;
-    private final Options options;
+    private final CompiledOptions options;
     private final String programName;
     private final String programVersion;
     private final String helpHeader;
     private final String helpFooter;
     private final boolean helpAutoUsage;
 
+    private final StartupProfile profile = new StartupProfile();
+
     private CommandLine cmd = null;
     private boolean initialized = false;
 
@@ -55,6 +60,7 @@ public class SmallProgram {
         this.mainClass = mainClass;
         this.args = args;
         this.options = this.createOptions(DEFAULT_OPTIONS);
+        this.profile.mark("createOptions");
         this.programName = programName;
         this.programVersion = programVersion;
         this.helpHeader = helpHeader;
@@ -79,6 +85,7 @@ public class SmallProgram {
         this.mainClass = mainClass;
         this.args = args;
         this.options = this.createOptions(defaultOptions);
+        this.profile.mark("createOptions");
         this.programName = programName;
         this.programVersion = programVersion;
         this.helpHeader = helpHeader;
@@ -102,10 +109,12 @@ public class SmallProgram {
         catch (ParseException e) {
             CLIUtils.logAndExit(e.getMessage(), 1);
         } /// exit 1
+        this.profile.mark("parseArguments");
 
         // Process commands (not the main program)
         if (this.cmd.hasOption("v")) CLIUtils.logAndExit(this.programVersion, 0); /// exit 0
         if (this.cmd.hasOption("h")) printHelp(); /// exit 0
+        if (this.options.isEnabled(DefaultOption.ANSWERS) && this.cmd.hasOption("answers")) this.setAnswers();
         if (this.cmd.hasOption("setup")) setup(); // exit -1, 0, 1
 
         // Mark as initiated
@@ -119,11 +128,33 @@ public class SmallProgram {
      */
     /*@ requires initialized == true @*/ public void exec() {
         if (!this.initialized) CLIUtils.logAndExit("can't execute program: ", new PreconditionNotMetException("not initialized")); /// exit -1
+        this.handOff("main");
+        if (AppCds.isTraining()) {
+            // load the classes of the help output and let the main class load its classes
+            new HelpFormatter().printHelp(new PrintWriter(new StringWriter()), HelpFormatter.DEFAULT_WIDTH, this.programName + "-" + this.programVersion, this.helpHeader, this.options.getOptions(), HelpFormatter.DEFAULT_LEFT_PAD, HelpFormatter.DEFAULT_DESC_PAD, this.helpFooter, true);
+            this.mainClass.train(this.cmd);
+            return;
+        }
         this.mainClass.main(this.cmd);
     }
 
+    /**
+     * Returns the startup profile of this program.
+     *
+     * <p>The profile is printed to stderr before the main class takes over when the --profile-startup option is passed.</p>
+     *
+     * @return The profile.
+     *
+     * @since 1.4.0
+     */
+    public StartupProfile getStartupProfile() {
+        return this.profile;
+    }
+
     /**
      * Defines all valid options.
+     * <br />
+     * The options are built once per main class and set of default options and shared by all programs.
      *
      * @param defaultOptions The default options which should be enabled.
      *
@@ -131,14 +162,8 @@ public class SmallProgram {
      *
      * @since 1.0.0
      */
-    private Options createOptions(DefaultOption[] defaultOptions) {
-        Options options = new Options();
-        if (Arrays.stream(defaultOptions).anyMatch(t -> t.equals(DefaultOption.HELP))) options.addOption(Option.builder("h").longOpt("help").desc("displays this help").build());
-        if (Arrays.stream(defaultOptions).anyMatch(t -> t.equals(DefaultOption.VERSION))) options.addOption(Option.builder("v").longOpt("version").desc("displays the current version").build());
-        if (Arrays.stream(defaultOptions).anyMatch(t -> t.equals(DefaultOption.CONFIG))) options.addOption(Option.builder("c").longOpt("config").hasArg(true).argName("FILE").desc("execute program with custom config file").build());
-        if (Arrays.stream(defaultOptions).anyMatch(t -> t.equals(DefaultOption.SETUP))) options.addOption(Option.builder().longOpt("setup").desc("starts an user interface to create (or overwrite!) the default config file\nuse -c option to change the location").build());
-        this.mainClass.getOptions(options);
-        return options;
+    private CompiledOptions createOptions(DefaultOption[] defaultOptions) {
+        return CompiledOptions.get(this.mainClass.getClass(), defaultOptions, this.mainClass::getOptions);
     }
 
     /**
@@ -147,8 +172,39 @@ public class SmallProgram {
      * @since 1.0.0
      */
     private void parseArguments() throws ParseException {
-        CommandLineParser parser = new DefaultParser();
-        this.cmd = parser.parse(this.options, this.args);
+        this.cmd = this.options.parse(this.args);
+    }
+
+    /**
+     * Ends the startup profile and prints it when the --profile-startup option is passed.
+     *
+     * @param phase The name of the last phase.
+     *
+     * @since 1.4.0
+     */
+    private void handOff(String phase) {
+        this.profile.handOff(phase);
+        if (this.options.isEnabled(DefaultOption.PROFILE_STARTUP) && this.cmd.hasOption("profile-startup")) this.profile.print(System.err);
+    }
+
+    /**
+     * Replaces the input of all prompts (of the current request in a daemon) with the answers of the file passed with the --answers option.
+     * <br />
+     * <br />
+     * Exits with 1 when the file can't be read.
+     *
+     * @since 1.4.0
+     */
+    private void setAnswers() {
+        try {
+            LineInput input = LineInput.fromFile(Daemon.resolve(this.cmd.getOptionValue("answers")).toPath());
+            // a daemon runs requests concurrently, the answers belong to this request only
+            if (Daemon.isRequest()) LineInput.setForThread(input);
+            else LineInput.set(input);
+        }
+        catch (IOException e) {
+            CLIUtils.logAndExit("can't read answer file: " + e.getMessage(), 1);
+        } /// exit 1
     }
 
     /**
@@ -164,8 +220,8 @@ public class SmallProgram {
      */
     private void printHelp() {
         HelpFormatter formatter = new HelpFormatter();
-        formatter.printHelp(this.programName + "-" + this.programVersion, this.helpHeader, this.options, this.helpFooter, true);
-        System.exit(0);
+        formatter.printHelp(this.programName + "-" + this.programVersion, this.helpHeader, this.options.getOptions(), this.helpFooter, true);
+        ShutdownCoordinator.exit(0);
     } /// exit 0
 
     /**
@@ -189,11 +245,18 @@ public class SmallProgram {
      */
     private void setup() {
         try {
+            this.handOff("setup");
             this.mainClass.setup(this.cmd);
-            CLIUtils.logAndExit("setup completed", 0);
+        }
+        catch (DaemonServer.Exit e) {
+            // the setup exited in the daemon
+            throw e;
         }
         catch (Throwable e) {
             CLIUtils.logAndExit("setup aborted: ", e);
-        }
+            return;
+        } /// exit -1
+        // outside of the try block, an exit interceptor may throw to unwind the exit
+        CLIUtils.logAndExit("setup completed", 0);
     }/// exit -1, 0
 }
@@ -0,0 +1,132 @@
+package com.github.luka5w.util.program;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * StartupProfile
+ *
+ * <p>Records the duration of each startup phase of a {@link Program} or {@link SmallProgram}.</p>
+ *
+ * <p>Recording a phase only reads {@link System#nanoTime()}.
+ * The JVM start time is only looked up when the profile is printed, so profiling doesn't load the management classes.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public class StartupProfile {
+    private final long start = System.nanoTime();
+    private final List<String> phases = new ArrayList<>();
+    private final List<Long> durations = new ArrayList<>();
+
+    private long last = this.start;
+    private long handOffMillis = -1;
+
+    /**
+     * Ends the current phase.
+     *
+     * @param phase The name of the phase.
+     *
+     * @since 1.4.0
+     */
+    public void mark(String phase) {
+        long now = System.nanoTime();
+        this.phases.add(phase);
+        this.durations.add(now - this.last);
+        this.last = now;
+    }
+
+    /**
+     * Ends the last phase before the main class takes over.
+     *
+     * @param phase The name of the phase.
+     *
+     * @since 1.4.0
+     */
+    void handOff(String phase) {
+        this.mark(phase);
+        this.handOffMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Returns the names of the recorded phases.
+     *
+     * @return The phases in the order they were recorded.
+     *
+     * @since 1.4.0
+     */
+    public List<String> getPhases() {
+        return new ArrayList<>(this.phases);
+    }
+
+    /**
+     * Returns the duration of a phase.
+     *
+     * @param phase The name of the phase.
+     * @return The duration in nanoseconds or -1 when the phase wasn't recorded.
+     *
+     * @since 1.4.0
+     */
+    public long getNanos(String phase) {
+        int index = this.phases.indexOf(phase);
+        return index < 0 ? -1 : this.durations.get(index);
+    }
+
+    /**
+     * Returns the duration of all phases.
+     *
+     * @return The duration in nanoseconds since the program was created.
+     *
+     * @since 1.4.0
+     */
+    public long getTotalNanos() {
+        return this.last - this.start;
+    }
+
+    /**
+     * Returns the time between the start of the JVM and the hand-off to the main class.
+     *
+     * @return The duration in milliseconds or -1 when the main class didn't take over yet.
+     *
+     * @since 1.4.0
+     */
+    public long getJvmStartToHandOffMillis() {
+        if (this.handOffMillis < 0) return -1;
+        return this.handOffMillis - ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+
+    /**
+     * Prints the duration of each phase.
+     *
+     * @param out The stream to print to.
+     *
+     * @since 1.4.0
+     */
+    public void print(PrintStream out) {
+        out.print(this);
+    }
+
+    /**
+     * Formats the duration of each phase as table.
+     *
+     * @return The table.
+     *
+     * @since 1.4.0
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("startup profile:\n");
+        for (int i = 0; i < this.phases.size(); i++) {
+            sb.append(String.format(Locale.ROOT, "  %-24s %10.3f ms%n", this.phases.get(i), this.durations.get(i) / 1e6));
+        }
+        sb.append(String.format(Locale.ROOT, "  %-24s %10.3f ms%n", "total", this.getTotalNanos() / 1e6));
+        long jvm = this.getJvmStartToHandOffMillis();
+        if (jvm >= 0) sb.append(String.format(Locale.ROOT, "  %-24s %6d     ms%n", "jvm start to hand-off", jvm));
+        return sb.toString();
+    }
+}
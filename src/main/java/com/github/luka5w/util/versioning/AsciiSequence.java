@@ -0,0 +1,63 @@
+package com.github.luka5w.util.versioning;
+
+import java.nio.ByteBuffer;
+
+/**
+ * AsciiSequence
+ *
+ * <p>A read-only view of bytes as chars (every byte is one char), e.g. of a memory-mapped file.</p>
+ *
+ * <p>Bytes above 127 (e.g. of multi-byte UTF-8 chars) are mapped to the chars 128 up to 255,
+ * which are never part of a version.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+final class AsciiSequence implements CharSequence {
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    /**
+     * Creates a view of the remaining bytes of a buffer.
+     *
+     * @param buffer The buffer (its position and limit are not changed by this view).
+     *
+     * @since 1.4.0
+     */
+    AsciiSequence(ByteBuffer buffer) {
+        this(buffer, buffer.position(), buffer.remaining());
+    }
+
+    private AsciiSequence(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= this.length) throw new IndexOutOfBoundsException("index: " + index + ", length: " + this.length);
+        return (char) (this.buffer.get(this.offset + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > this.length || start > end) throw new IndexOutOfBoundsException("start: " + start + ", end: " + end + ", length: " + this.length);
+        return new AsciiSequence(this.buffer, this.offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        char[] chars = new char[this.length];
+        for (int i = 0; i < this.length; i++) chars[i] = this.charAt(i);
+        return new String(chars);
+    }
+}
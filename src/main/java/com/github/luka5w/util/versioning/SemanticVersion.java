@@ -0,0 +1,349 @@
+package com.github.luka5w.util.versioning;
+
+import java.text.ParsePosition;
+
+/**
+ * SemanticVersion
+ *
+ * <p>A version following Semantic Versioning 2.0 (https://semver.org):
+ * &lt;major&gt;.&lt;minor&gt;.&lt;patch&gt;[-&lt;pre-release&gt;][+&lt;build&gt;], e.g. 1.2.3-rc.1+build.5.</p>
+ *
+ * <p>Versions are ordered by precedence: the numbers first, then a pre-release is lower than the release.
+ * Pre-releases are compared identifier by identifier, numeric identifiers numerically and lower than alphanumeric identifiers.
+ * Build metadata is ignored by {@link #compareTo(SemanticVersion)} but not by {@link #equals(Object)}.</p>
+ *
+ * <p>The numbers are packed into a single long, so versions without pre-release are compared with a single primitive comparison.
+ * The identifiers of a pre-release are stored as one String with their end offsets.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public final class SemanticVersion implements Comparable<SemanticVersion> {
+    private static final int NUMBER_BITS = 21;
+    private static final int MAX_PACKED = (1 << NUMBER_BITS) - 1;
+    private static final int NUMERIC = 0x80000000;
+
+    private final int major;
+    private final int minor;
+    private final int patch;
+    private final String preRelease;
+    private final String build;
+    /** The numbers packed into a long or -1 when a number exceeds 21 bits. */
+    private final long key;
+    /** The end offsets of the pre-release identifiers, numeric identifiers are flagged by the sign bit. */
+    private final int[] identifiers;
+    private String string = null;
+
+    /**
+     * Creates a new semantic version.
+     *
+     * @param major The major version.
+     * @param minor The minor version.
+     * @param patch The patch version.
+     * @param preRelease The pre-release (e.g. rc.1) or null.
+     * @param build The build metadata (e.g. build.5) or null.
+     *
+     * @throws IllegalArgumentException When a number is negative or the pre-release or build metadata is invalid.
+     *
+     * @since 1.4.0
+     */
+    public SemanticVersion(int major, int minor, int patch, String preRelease, String build) {
+        this(major, minor, patch, preRelease, build, true);
+    }
+
+    /**
+     * Creates a new semantic version.
+     *
+     * @param major The major version.
+     * @param minor The minor version.
+     * @param patch The patch version.
+     * @param preRelease The pre-release (e.g. rc.1) or null.
+     * @param build The build metadata (e.g. build.5) or null.
+     * @param validate Whether the parts must be validated (false when they were already validated by the parser).
+     *
+     * @since 1.4.0
+     */
+    SemanticVersion(int major, int minor, int patch, String preRelease, String build, boolean validate) {
+        if (validate) {
+            if (major < 0 || minor < 0 || patch < 0) throw new IllegalArgumentException("numbers must not be negative");
+            if (preRelease != null && !isValid(preRelease, true)) throw new IllegalArgumentException("invalid pre-release: " + preRelease);
+            if (build != null && !isValid(build, false)) throw new IllegalArgumentException("invalid build metadata: " + build);
+        }
+        this.major = major;
+        this.minor = minor;
+        this.patch = patch;
+        this.preRelease = preRelease;
+        this.build = build;
+        this.key = major > MAX_PACKED || minor > MAX_PACKED || patch > MAX_PACKED ? -1
+                : ((long) major << (2 * NUMBER_BITS)) | ((long) minor << NUMBER_BITS) | patch;
+        this.identifiers = preRelease == null ? null : identifiers(preRelease);
+    }
+
+    /**
+     * Creates a new semantic version from a String.
+     *
+     * @param version The String to get the version from.
+     * @return The new version.
+     *
+     * @throws IllegalArgumentException When the String isn't a valid semantic version.
+     *
+     * @since 1.4.0
+     */
+    public static SemanticVersion fromString(String version) {
+        ParsePosition pos = new ParsePosition(0);
+        SemanticVersion v = VersionParser.parseSemantic(version, 0, version.length(), true, pos);
+        if (v == null) throw new IllegalArgumentException("Unknown Semantic Version (err at pos " + pos.getErrorIndex() + ")");
+        return v;
+    }
+
+    /**
+     * Creates a new semantic version from chars without throwing an exception on invalid input.
+     *
+     * @param version The chars to get the version from.
+     * @return The new version or null when the chars aren't a valid semantic version.
+     *
+     * @since 1.4.0
+     */
+    public static SemanticVersion tryParse(CharSequence version) {
+        return VersionParser.parseSemantic(version, 0, version.length(), true, null);
+    }
+
+    /**
+     * Parses a semantic version starting at the index of pos.
+     *
+     * <p>The parser stops at the first char which doesn't belong to the version.
+     * On success, the index of pos is set to this char.
+     * On failure, the index of pos is left unchanged and the error index is set to the invalid char.</p>
+     *
+     * @param version The chars to get the version from.
+     * @param pos The position to start at.
+     * @return The new version or null when the chars aren't a valid semantic version.
+     *
+     * @since 1.4.0
+     */
+    public static SemanticVersion tryParse(CharSequence version, ParsePosition pos) {
+        return VersionParser.parseSemantic(version, pos.getIndex(), version.length(), false, pos);
+    }
+
+    /**
+     * Returns the major version.
+     *
+     * @return The major version.
+     *
+     * @since 1.4.0
+     */
+    public int getMajor() {
+        return this.major;
+    }
+
+    /**
+     * Returns the minor version.
+     *
+     * @return The minor version.
+     *
+     * @since 1.4.0
+     */
+    public int getMinor() {
+        return this.minor;
+    }
+
+    /**
+     * Returns the patch version.
+     *
+     * @return The patch version.
+     *
+     * @since 1.4.0
+     */
+    public int getPatch() {
+        return this.patch;
+    }
+
+    /**
+     * Returns the pre-release.
+     *
+     * @return The pre-release (e.g. rc.1) or null.
+     *
+     * @since 1.4.0
+     */
+    public String getPreRelease() {
+        return this.preRelease;
+    }
+
+    /**
+     * Returns the build metadata.
+     *
+     * @return The build metadata (e.g. build.5) or null.
+     *
+     * @since 1.4.0
+     */
+    public String getBuild() {
+        return this.build;
+    }
+
+    /**
+     * Returns whether this version is a pre-release.
+     *
+     * @return Whether this version has a pre-release.
+     *
+     * @since 1.4.0
+     */
+    public boolean isPreRelease() {
+        return this.preRelease != null;
+    }
+
+    /**
+     * Compares the precedence of this version with another version.
+     *
+     * @param version The version to compare to.
+     * @return A negative integer, zero or a positive integer when this version has a lower, equal or higher precedence.
+     *
+     * @since 1.4.0
+     */
+    @Override
+    public int compareTo(SemanticVersion version) {
+        if (this.key >= 0 && version.key >= 0) {
+            if (this.key != version.key) return Long.compare(this.key, version.key);
+            if (this.preRelease == null && version.preRelease == null) return 0;
+        }
+        else {
+            if (this.major != version.major) return Integer.compare(this.major, version.major);
+            if (this.minor != version.minor) return Integer.compare(this.minor, version.minor);
+            if (this.patch != version.patch) return Integer.compare(this.patch, version.patch);
+        }
+        if (this.preRelease == null) return version.preRelease == null ? 0 : 1;
+        if (version.preRelease == null) return -1;
+        return comparePreRelease(this, version);
+    }
+
+    /**
+     * Returns whether this version is the same as the version to compare to (including build metadata).
+     *
+     * @param o The object to compare to.
+     * @return True if o is a semantic version and is the same version as this.
+     *
+     * @since 1.4.0
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SemanticVersion)) return false;
+        SemanticVersion v = (SemanticVersion) o;
+        return this.major == v.major && this.minor == v.minor && this.patch == v.patch
+                && (this.preRelease == null ? v.preRelease == null : this.preRelease.equals(v.preRelease))
+                && (this.build == null ? v.build == null : this.build.equals(v.build));
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = this.major;
+        hash = 31 * hash + this.minor;
+        hash = 31 * hash + this.patch;
+        hash = 31 * hash + (this.preRelease == null ? 0 : this.preRelease.hashCode());
+        return 31 * hash + (this.build == null ? 0 : this.build.hashCode());
+    }
+
+    /**
+     * Formats this version as a String with pattern &lt;major&gt;.&lt;minor&gt;.&lt;patch&gt;[-&lt;pre-release&gt;][+&lt;build&gt;].
+     *
+     * @return The version formatted as String.
+     *
+     * @since 1.4.0
+     */
+    @Override
+    public String toString() {
+        String string = this.string;
+        if (string != null) return string;
+        StringBuilder sb = new StringBuilder()
+                .append(this.major).append('.')
+                .append(this.minor).append('.')
+                .append(this.patch);
+        if (this.preRelease != null) sb.append('-').append(this.preRelease);
+        if (this.build != null) sb.append('+').append(this.build);
+        return this.string = sb.toString();
+    }
+
+    /**
+     * Compares the pre-releases of two versions identifier by identifier.
+     */
+    private static int comparePreRelease(SemanticVersion a, SemanticVersion b) {
+        int[] ai = a.identifiers;
+        int[] bi = b.identifiers;
+        int aStart = 0;
+        int bStart = 0;
+        for (int k = 0; k < ai.length && k < bi.length; k++) {
+            int aEnd = ai[k] & ~NUMERIC;
+            int bEnd = bi[k] & ~NUMERIC;
+            boolean aNumeric = ai[k] < 0;
+            boolean bNumeric = bi[k] < 0;
+            int c;
+            if (aNumeric && bNumeric) {
+                // no leading zeros, so the longer number is the higher one
+                c = Integer.compare(aEnd - aStart, bEnd - bStart);
+                if (c == 0) c = compareChars(a.preRelease, aStart, aEnd, b.preRelease, bStart, bEnd);
+            }
+            else if (aNumeric != bNumeric) {
+                c = aNumeric ? -1 : 1;
+            }
+            else {
+                c = compareChars(a.preRelease, aStart, aEnd, b.preRelease, bStart, bEnd);
+            }
+            if (c != 0) return c;
+            aStart = aEnd + 1;
+            bStart = bEnd + 1;
+        }
+        return Integer.compare(ai.length, bi.length);
+    }
+
+    private static int compareChars(String a, int aStart, int aEnd, String b, int bStart, int bEnd) {
+        int n = Math.min(aEnd - aStart, bEnd - bStart);
+        for (int i = 0; i < n; i++) {
+            char ac = a.charAt(aStart + i);
+            char bc = b.charAt(bStart + i);
+            if (ac != bc) return ac - bc;
+        }
+        return Integer.compare(aEnd - aStart, bEnd - bStart);
+    }
+
+    private static int[] identifiers(String s) {
+        int count = 1;
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) == '.') count++;
+        }
+        int[] identifiers = new int[count];
+        int k = 0;
+        boolean numeric = true;
+        for (int i = 0; i <= s.length(); i++) {
+            if (i == s.length() || s.charAt(i) == '.') {
+                identifiers[k++] = i | (numeric ? NUMERIC : 0);
+                numeric = true;
+            }
+            else if (!VersionParser.isDigit(s.charAt(i))) {
+                numeric = false;
+            }
+        }
+        return identifiers;
+    }
+
+    private static boolean isValid(String identifiers, boolean preRelease) {
+        int start = 0;
+        boolean numeric = true;
+        for (int i = 0; i <= identifiers.length(); i++) {
+            char c = i == identifiers.length() ? '.' : identifiers.charAt(i);
+            if (c == '.') {
+                if (i == start) return false;
+                if (preRelease && numeric && i - start > 1 && identifiers.charAt(start) == '0') return false;
+                start = i + 1;
+                numeric = true;
+            }
+            else if (!VersionParser.isIdentifier(c)) {
+                return false;
+            }
+            else if (!VersionParser.isDigit(c)) {
+                numeric = false;
+            }
+        }
+        return true;
+    }
+}
@@ -2,25 +2,32 @@ package com.github.luka5w.util.versioning;
 
 import com.github.luka5w.util.exception.IncomparableException;
 
+import java.text.ParsePosition;
+
 /**
  * Version
  *
  * <p>A class to store and compare versions</p>
  *
+ * <p>Versions are ordered by type first (see {@link VersionType#rank()}), then by their numbers.
+ * A missing number is lower than any present number.</p>
+ *
  * GitHub: https://github.com/luka5w/javautils
  *
  * @author Lukas // https://github.com/luka5w
- * @version 1.2.0
+ * @version 1.3.0
  */
-public class Version {
+public class Version implements Comparable<Version> {
 
-    private final String DELIMITER = ".";
+    private static final String DELIMITER = ".";
 
     private final VersionType type;
     private final int major;
     private final int minor;
     private final int build;
     private final int revision;
+    private final long key;
+    private String string = null;
 
     /**
      * Creates a new version with
@@ -63,55 +70,178 @@ public class Version {
         this.minor = minor;
         this.build = build;
         this.revision = revision;
+        this.key = VersionKey.pack(type, major, minor, build, revision);
+    }
+
+    /**
+     * Returns a shared version.
+     *
+     * <p>Unlike the constructors, this method returns the same instance for the same version
+     * as long as it is cached. The cache is bounded, so the instances may change nevertheless.</p>
+     *
+     * @param type The type of the enum. See {@link VersionType}.
+     * @param major The major version.
+     * @param minor The minor version.
+     * @return The version.
+     *
+     * @since 1.4.0
+     */
+    public static Version of(VersionType type, int major, int minor) {
+        return VersionCache.get(type, major, minor, -1, -1);
+    }
+
+    /**
+     * Returns a shared version. See {@link #of(VersionType, int, int)}.
+     *
+     * @param type The type of the enum. See {@link VersionType}.
+     * @param major The major version.
+     * @param minor The minor version.
+     * @param build The build version.
+     * @return The version.
+     *
+     * @since 1.4.0
+     */
+    public static Version of(VersionType type, int major, int minor, int build) {
+        return VersionCache.get(type, major, minor, build, -1);
+    }
+
+    /**
+     * Returns a shared version. See {@link #of(VersionType, int, int)}.
+     *
+     * @param type The type of the enum. See {@link VersionType}.
+     * @param major The major version.
+     * @param minor The minor version.
+     * @param build The build version.
+     * @param revision The revision.
+     * @return The version.
+     *
+     * @since 1.4.0
+     */
+    public static Version of(VersionType type, int major, int minor, int build, int revision) {
+        return VersionCache.get(type, major, minor, build, revision);
     }
 
     /**
-     * Creates a new version from a String matching [&lt;type&gt;]&lt;major&gt;[.&lt;minor&gt;[.&lt;patch&gt;[.&lt;revision&gt;]]].
+     * Returns a shared version parsed from a String matching [&lt;type&gt;]&lt;major&gt;.&lt;minor&gt;[.&lt;patch&gt;[.&lt;revision&gt;]].
+     *
+     * <p>Repeatedly interned Strings aren't parsed again as long as they are cached.
+     * See {@link #of(VersionType, int, int)}.</p>
+     *
+     * @param version The String to get the version from.
+     * @return The version.
+     *
+     * @throws IllegalArgumentException When the String doesn't match the pattern.
+     *
+     * @since 1.4.0
+     */
+    public static Version intern(String version) {
+        Version v = VersionCache.get(version);
+        if (v == null) return fromString(version); // throws with the error index
+        return v;
+    }
+
+    /**
+     * Returns the type of this version.
+     *
+     * @return The type.
+     *
+     * @since 1.4.0
+     */
+    public VersionType getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the major version.
+     *
+     * @return The major version.
+     *
+     * @since 1.4.0
+     */
+    public int getMajor() {
+        return this.major;
+    }
+
+    /**
+     * Returns the minor version.
+     *
+     * @return The minor version or -1 when there is none.
+     *
+     * @since 1.4.0
+     */
+    public int getMinor() {
+        return this.minor;
+    }
+
+    /**
+     * Returns the build version.
+     *
+     * @return The build version or -1 when there is none.
+     *
+     * @since 1.4.0
+     */
+    public int getBuild() {
+        return this.build;
+    }
+
+    /**
+     * Returns the revision.
+     *
+     * @return The revision or -1 when there is none.
+     *
+     * @since 1.4.0
+     */
+    public int getRevision() {
+        return this.revision;
+    }
+
+    /**
+     * Returns the version parsed from a String matching [&lt;type&gt;]&lt;major&gt;[.&lt;minor&gt;[.&lt;patch&gt;[.&lt;revision&gt;]]].
      *
      * @param version The String to get the version from.
      * @return The new version.
      *
+     * @throws IllegalArgumentException When the String doesn't match the pattern.
+     *
      * @since 1.0.0
      */
     public static Version fromString(String version) {
-        String[] version1 = version.split("\\.");
-        if (version1.length < 2) throw new IllegalArgumentException("Unknown Version Scheme (err at pos 1)");
-        VersionType type = VersionType.NONE;
-        int major;
-        int minor;
-        int build = -1;
-        int revision = -1;
-        if (Character.isDigit(version1[0].charAt(0))) {
-            try {
-                major = Integer.parseInt(version1[0]);
-            }
-            catch (NumberFormatException e) {
-                throw new IllegalArgumentException("Unknown Version Scheme (err at pos 3.1)");
-            }
-        } else {
-            version1[0] = version1[0].toLowerCase();
-            int i = -1;
-            while (++i < version1[0].length()) {
-                if (!Character.isLetter(version1[0].charAt(i))) break;
-            }
-            if (i == version1[0].length()) throw new IllegalArgumentException("Unknown Version Scheme (err at pos 2)");
-            try {
-                type = VersionType.fromString(version1[0].substring(0, i));
-                major = Integer.parseInt(version1[0].substring(i));
-            }
-            catch (IllegalArgumentException e) {
-                throw new IllegalArgumentException("Unknown Version Scheme (err at pos 3.2)");
-            }
-        }
-        try {
-            minor = Integer.parseInt(version1[1]);
-            if (version1.length > 2) build = Integer.parseInt(version1[2]);
-            if (version1.length > 3) revision = Integer.parseInt(version1[3]);
-            return new Version(type, major, minor, build, revision);
-        }
-        catch(IllegalArgumentException e) {
-            throw new IllegalArgumentException("Unknown Version Scheme (err at pos 4)");
-        }
+        ParsePosition pos = new ParsePosition(0);
+        Version v = VersionParser.parse(version, 0, version.length(), 2, true, pos);
+        if (v == null) throw new IllegalArgumentException("Unknown Version Scheme (err at pos " + pos.getErrorIndex() + ")");
+        return v;
+    }
+
+    /**
+     * Returns the version parsed from chars matching [&lt;type&gt;]&lt;major&gt;.&lt;minor&gt;[.&lt;patch&gt;[.&lt;revision&gt;]].
+     *
+     * <p>Unlike {@link #fromString(String)}, this method doesn't throw an exception on invalid input.</p>
+     *
+     * @param version The chars to get the version from.
+     * @return The new version or null when the chars don't match the pattern.
+     *
+     * @since 1.4.0
+     */
+    public static Version tryParse(CharSequence version) {
+        return VersionParser.parse(version, 0, version.length(), 2, true, null);
+    }
+
+    /**
+     * Parses a version matching [&lt;type&gt;]&lt;major&gt;.&lt;minor&gt;[.&lt;patch&gt;[.&lt;revision&gt;]]
+     * starting at the index of pos.
+     *
+     * <p>The parser stops at the first char which doesn't belong to the version.
+     * On success, the index of pos is set to this char.
+     * On failure, the index of pos is left unchanged and the error index is set to the invalid char.</p>
+     *
+     * @param version The chars to get the version from.
+     * @param pos The position to start at.
+     * @return The new version or null when the chars don't match the pattern.
+     *
+     * @since 1.4.0
+     */
+    public static Version tryParse(CharSequence version, ParsePosition pos) {
+        return VersionParser.parse(version, pos.getIndex(), version.length(), 2, false, pos);
     }
 
     /**
@@ -139,7 +269,7 @@ public class Version {
      * @since 1.0.0
      */
     public boolean isHigherThan(Version version, boolean onEqual) throws IncomparableException {
-        if (!(this.type.equals(version.type))) throw new IncomparableException();
+        if (!(this.type.equals(version.type))) throw IncomparableException.shared();
         if (this.major != version.major) return this.major > version.major;
         if (this.minor != version.minor) return this.minor > version.minor;
         if (this.build != version.build) return this.build > version.build;
@@ -158,7 +288,7 @@ public class Version {
      * @since 1.0.0
      */
     public boolean isLowerThan(Version version) throws IncomparableException {
-        return this.isHigherThan(version, false);
+        return this.isLowerThan(version, false);
     }
     /**
      * Returns whether this version is lower than the version to compare to.
@@ -172,7 +302,7 @@ public class Version {
      * @since 1.0.0
      */
     public boolean isLowerThan(Version version, boolean onEqual) throws IncomparableException {
-        if (!(this.type.equals(version.type))) throw new IncomparableException();
+        if (!(this.type.equals(version.type))) throw IncomparableException.shared();
         if (this.major != version.major) return this.major < version.major;
         if (this.minor != version.minor) return this.minor < version.minor;
         if (this.build != version.build) return this.build < version.build;
@@ -180,6 +310,68 @@ public class Version {
         return onEqual;
     }
 
+    /**
+     * Creates a version from a key. See {@link #toKey()}.
+     *
+     * @param key The key.
+     * @return The version.
+     *
+     * @throws IllegalArgumentException When the key is invalid.
+     *
+     * @since 1.4.0
+     */
+    public static Version fromKey(long key) {
+        if (!VersionKey.isValid(key)) throw new IllegalArgumentException("invalid version key");
+        return VersionCache.get(VersionKey.type(key), VersionKey.major(key), VersionKey.minor(key), VersionKey.build(key), VersionKey.revision(key));
+    }
+
+    /**
+     * Returns this version packed into a long.
+     *
+     * <p>Keys have the same order as the versions, so comparing two keys is the same as comparing two versions.
+     * A version can be packed when major and minor are lower than 4095, build is lower than 1048575
+     * and revision is lower than 65535 (and none of them is lower than -1).</p>
+     *
+     * @return The key or -1 when this version can't be packed.
+     *
+     * @since 1.4.0
+     */
+    public long toKey() {
+        return this.key;
+    }
+
+    /**
+     * Returns whether this version can be packed into a long. See {@link #toKey()}.
+     *
+     * @return Whether this version can be packed.
+     *
+     * @since 1.4.0
+     */
+    public boolean isPackable() {
+        return this.key != VersionKey.NONE;
+    }
+
+    /**
+     * Compares this version with another version.
+     *
+     * <p>Unlike {@link #isHigherThan(Version)}, versions of different types can be compared.
+     * See {@link VersionType#rank()}.</p>
+     *
+     * @param version The version to compare to.
+     * @return A negative integer, zero or a positive integer when this version is lower than, equal to or higher than the version.
+     *
+     * @since 1.4.0
+     */
+    @Override
+    public int compareTo(Version version) {
+        if (this.key != VersionKey.NONE && version.key != VersionKey.NONE) return Long.compare(this.key, version.key);
+        if (this.type != version.type) return Integer.compare(this.type.rank(), version.type.rank());
+        if (this.major != version.major) return Integer.compare(this.major, version.major);
+        if (this.minor != version.minor) return Integer.compare(this.minor, version.minor);
+        if (this.build != version.build) return Integer.compare(this.build, version.build);
+        return Integer.compare(this.revision, version.revision);
+    }
+
     /**
      * Returns whether this version is the same as the version to compare to.
      *
@@ -190,10 +382,21 @@ public class Version {
      */
     @Override
     public boolean equals(Object o) {
-        if (super.equals(o)) return true;
+        if (this == o) return true;
         if (!(o instanceof Version)) return false;
         Version v = (Version) o;
-        return this.type.equals(v.type) && this.major == v.major && this.minor == v.minor && this.revision == v.revision;
+        if (this.key != VersionKey.NONE || v.key != VersionKey.NONE) return this.key == v.key;
+        return this.type.equals(v.type) && this.major == v.major && this.minor == v.minor && this.build == v.build && this.revision == v.revision;
+    }
+
+    @Override
+    public int hashCode() {
+        if (this.key != VersionKey.NONE) return Long.hashCode(this.key);
+        int hash = this.type.rank();
+        hash = 31 * hash + this.major;
+        hash = 31 * hash + this.minor;
+        hash = 31 * hash + this.build;
+        return 31 * hash + this.revision;
     }
 
     /**
@@ -205,12 +408,15 @@ public class Version {
      */
     @Override
     public String toString() {
+        // racy, but Strings are immutable, so a thread sees either null or a complete String
+        String string = this.string;
+        if (string != null) return string;
         StringBuilder sb = new StringBuilder()
                 .append(type.toString())
                 .append(this.major);
-        if (this.minor != -1) sb.append(this.DELIMITER).append(this.minor);
-        if (this.build != -1) sb.append(this.DELIMITER).append(this.build);
-        if (this.revision != -1) sb.append(this.DELIMITER).append(this.revision);
-        return sb.toString();
+        if (this.minor != -1) sb.append(DELIMITER).append(this.minor);
+        if (this.build != -1) sb.append(DELIMITER).append(this.build);
+        if (this.revision != -1) sb.append(DELIMITER).append(this.revision);
+        return this.string = sb.toString();
     }
 }
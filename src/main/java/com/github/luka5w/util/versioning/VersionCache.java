@@ -0,0 +1,90 @@
+package com.github.luka5w.util.versioning;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * VersionCache
+ *
+ * <p>A bounded cache of shared {@link Version} instances.</p>
+ *
+ * <p>The cache is direct-mapped: every key (and every String) has exactly one slot,
+ * so lookups are lock-free and the cache never grows.
+ * When two versions share a slot, the newer one replaces the older one.
+ * Versions which can't be packed (see {@link Version#toKey()}) aren't cached.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+final class VersionCache {
+    private static final int SLOTS = 8192;
+    private static final int MASK = SLOTS - 1;
+
+    private static final AtomicReferenceArray<Version> BY_KEY = new AtomicReferenceArray<>(SLOTS);
+    private static final AtomicReferenceArray<Entry> BY_STRING = new AtomicReferenceArray<>(SLOTS);
+
+    private VersionCache() {}
+
+    /**
+     * Returns the shared instance of a version.
+     *
+     * @param type The type.
+     * @param major The major version.
+     * @param minor The minor version.
+     * @param build The build version.
+     * @param revision The revision.
+     * @return The shared version (a new one when the version can't be packed).
+     *
+     * @since 1.4.0
+     */
+    static Version get(VersionType type, int major, int minor, int build, int revision) {
+        long key = VersionKey.pack(type, major, minor, build, revision);
+        if (key == VersionKey.NONE) return new Version(type, major, minor, build, revision);
+        int slot = slot(key);
+        Version version = BY_KEY.get(slot);
+        if (version != null && version.toKey() == key) return version;
+        version = new Version(type, major, minor, build, revision);
+        BY_KEY.lazySet(slot, version);
+        return version;
+    }
+
+    /**
+     * Returns the shared instance of a version parsed from a String.
+     *
+     * @param s The String.
+     * @return The shared version or null when the String isn't a valid version.
+     *
+     * @since 1.4.0
+     */
+    static Version get(String s) {
+        int slot = mix(s.hashCode()) & MASK;
+        Entry entry = BY_STRING.get(slot);
+        if (entry != null && entry.source.equals(s)) return entry.version;
+        Version version = VersionParser.parse(s, 0, s.length(), 2, true, null);
+        if (version != null) BY_STRING.lazySet(slot, new Entry(s, version));
+        return version;
+    }
+
+    private static int slot(long key) {
+        return mix((int) (key ^ (key >>> 32))) & MASK;
+    }
+
+    private static int mix(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * A parsed String and its version.
+     */
+    private static final class Entry {
+        private final String source;
+        private final Version version;
+
+        private Entry(String source, Version version) {
+            this.source = source;
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.github.luka5w.util.versioning;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Stream;
+
+/**
+ * VersionIndex
+ *
+ * <p>An immutable, sorted set of versions for fast lookups.</p>
+ *
+ * <p>The versions are stored as sorted keys (see {@link Version#toKey()}) in a single long array,
+ * so every lookup is a binary search: O(log n) without allocating anything except the returned version.
+ * Only versions which can be packed can be stored.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public final class VersionIndex {
+    private final long[] keys;
+
+    /**
+     * Creates a new index.
+     *
+     * @param keys Sorted keys without duplicates.
+     *
+     * @since 1.4.0
+     */
+    VersionIndex(long[] keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * Creates a new index from versions.
+     *
+     * @param versions The versions. Duplicates are ignored.
+     * @return The index.
+     *
+     * @throws IllegalArgumentException When a version can't be packed. See {@link Version#toKey()}.
+     *
+     * @since 1.4.0
+     */
+    public static VersionIndex of(Collection<Version> versions) {
+        long[] keys = new long[versions.size()];
+        int i = 0;
+        for (Version version : versions) keys[i++] = key(version);
+        return fromKeys(keys);
+    }
+
+    /**
+     * Creates a new index from Strings. See {@link Version#fromString(String)}.
+     *
+     * @param versions The versions. Duplicates are ignored. The stream may be parallel.
+     * @return The index.
+     *
+     * @throws IllegalArgumentException When a String isn't a valid version or a version can't be packed.
+     *
+     * @since 1.4.0
+     */
+    public static VersionIndex fromStrings(Stream<String> versions) {
+        return fromKeys(versions.mapToLong(s -> key(Version.intern(s))).toArray());
+    }
+
+    /**
+     * Creates a new index from keys.
+     *
+     * @param keys The keys (will be sorted). Duplicates are ignored.
+     * @return The index.
+     *
+     * @since 1.4.0
+     */
+    private static VersionIndex fromKeys(long[] keys) {
+        Arrays.sort(keys);
+        int n = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (n == 0 || keys[i] != keys[n - 1]) keys[n++] = keys[i];
+        }
+        return new VersionIndex(n == keys.length ? keys : Arrays.copyOf(keys, n));
+    }
+
+    /**
+     * Returns the amount of versions.
+     *
+     * @return The size of this index.
+     *
+     * @since 1.4.0
+     */
+    public int size() {
+        return this.keys.length;
+    }
+
+    /**
+     * Returns the version at a position (versions are sorted ascending).
+     *
+     * @param index The position.
+     * @return The version.
+     *
+     * @since 1.4.0
+     */
+    public Version get(int index) {
+        return Version.fromKey(this.keys[index]);
+    }
+
+    /**
+     * Returns whether a version is in this index.
+     *
+     * @param version The version.
+     * @return Whether the version is in this index.
+     *
+     * @since 1.4.0
+     */
+    public boolean contains(Version version) {
+        return version.isPackable() && Arrays.binarySearch(this.keys, version.toKey()) >= 0;
+    }
+
+    /**
+     * Returns the highest version.
+     *
+     * @return The highest version or null when this index is empty.
+     *
+     * @since 1.4.0
+     */
+    public Version latest() {
+        return this.keys.length == 0 ? null : Version.fromKey(this.keys[this.keys.length - 1]);
+    }
+
+    /**
+     * Returns the highest version in a range.
+     *
+     * @param range The range.
+     * @return The highest version in the range or null when no version is in the range.
+     *
+     * @since 1.4.0
+     */
+    public Version latestMatching(VersionRange range) {
+        long[] bounds = range.bounds();
+        for (int i = bounds.length - 2; i >= 0; i -= 2) {
+            int index = this.floorIndex(bounds[i + 1] - 1);
+            if (index >= 0 && this.keys[index] >= bounds[i]) return Version.fromKey(this.keys[index]);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the highest version lower than or equal to a version.
+     *
+     * @param version The version.
+     * @return The version or null when there is none.
+     *
+     * @throws IllegalArgumentException When the version can't be packed.
+     *
+     * @since 1.4.0
+     */
+    public Version floor(Version version) {
+        int index = this.floorIndex(key(version));
+        return index < 0 ? null : Version.fromKey(this.keys[index]);
+    }
+
+    /**
+     * Returns the lowest version higher than or equal to a version.
+     *
+     * @param version The version.
+     * @return The version or null when there is none.
+     *
+     * @throws IllegalArgumentException When the version can't be packed.
+     *
+     * @since 1.4.0
+     */
+    public Version ceiling(Version version) {
+        int index = this.floorIndex(key(version) - 1) + 1;
+        return index == this.keys.length ? null : Version.fromKey(this.keys[index]);
+    }
+
+    /**
+     * Returns the position of the highest key lower than or equal to a key.
+     *
+     * @param key The key.
+     * @return The position or -1 when all keys are higher.
+     *
+     * @since 1.4.0
+     */
+    private int floorIndex(long key) {
+        int index = Arrays.binarySearch(this.keys, key);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private static long key(Version version) {
+        if (!version.isPackable()) throw new IllegalArgumentException("version can't be packed: " + version);
+        return version.toKey();
+    }
+}
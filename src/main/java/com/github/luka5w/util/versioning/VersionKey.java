@@ -0,0 +1,135 @@
+package com.github.luka5w.util.versioning;
+
+/**
+ * VersionKey
+ *
+ * <p>Packs the type and the numbers of a {@link Version} into a single long,
+ * so two versions can be compared with a single primitive comparison.</p>
+ *
+ * <p>Layout (from the most significant bit): 1 unused bit (always 0), 3 bits type rank,
+ * 12 bits major, 12 bits minor, 20 bits build, 16 bits revision.
+ * Every number is stored incremented by one, so the missing number (-1) is stored as 0 and sorts first.
+ * Versions with numbers exceeding the ranges can't be packed.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+final class VersionKey {
+    /** Returned instead of a key when a version can't be packed. */
+    static final long NONE = -1;
+
+    static final int MAX_MAJOR = (1 << 12) - 2;
+    static final int MAX_MINOR = (1 << 12) - 2;
+    static final int MAX_BUILD = (1 << 20) - 2;
+    static final int MAX_REVISION = (1 << 16) - 2;
+
+    private static final int TYPE_SHIFT = 60;
+    private static final int MAJOR_SHIFT = 48;
+    private static final int MINOR_SHIFT = 36;
+    private static final int BUILD_SHIFT = 16;
+
+    private VersionKey() {}
+
+    /**
+     * Packs a version.
+     *
+     * @param type The type.
+     * @param major The major version.
+     * @param minor The minor version.
+     * @param build The build version.
+     * @param revision The revision.
+     * @return The key or {@link #NONE} when a number exceeds its range.
+     *
+     * @since 1.4.0
+     */
+    static long pack(VersionType type, int major, int minor, int build, int revision) {
+        if (major < -1 || major > MAX_MAJOR || minor < -1 || minor > MAX_MINOR
+                || build < -1 || build > MAX_BUILD || revision < -1 || revision > MAX_REVISION) return NONE;
+        return ((long) type.rank() << TYPE_SHIFT)
+                | ((long) (major + 1) << MAJOR_SHIFT)
+                | ((long) (minor + 1) << MINOR_SHIFT)
+                | ((long) (build + 1) << BUILD_SHIFT)
+                | (revision + 1);
+    }
+
+    /**
+     * Returns the lowest key of a type.
+     *
+     * @param type The type.
+     * @return The key of a version of this type without any numbers.
+     *
+     * @since 1.4.0
+     */
+    static long first(VersionType type) {
+        return (long) type.rank() << TYPE_SHIFT;
+    }
+
+    /**
+     * Returns the key after the highest key of a type.
+     *
+     * @param type The type.
+     * @return The lowest key of the next type (or a key after all types).
+     *
+     * @since 1.4.0
+     */
+    static long end(VersionType type) {
+        return (long) (type.rank() + 1) << TYPE_SHIFT;
+    }
+
+    /**
+     * Compares a key with a version which may exceed the ranges.
+     *
+     * @param key The key.
+     * @param type The type of the version.
+     * @param major The major version.
+     * @param minor The minor version.
+     * @param build The build version.
+     * @param revision The revision.
+     * @return A negative integer, zero or a positive integer when the key is lower than, equal to or higher than the version.
+     *
+     * @since 1.4.0
+     */
+    static int compare(long key, VersionType type, int major, int minor, int build, int revision) {
+        // the rank is compared without VersionType, so keys after the last type can be compared, too
+        int c = Integer.compare((int) (key >>> TYPE_SHIFT), type.rank());
+        if (c == 0) c = Integer.compare(major(key), major);
+        if (c == 0) c = Integer.compare(minor(key), minor);
+        if (c == 0) c = Integer.compare(build(key), build);
+        if (c == 0) c = Integer.compare(revision(key), revision);
+        return c;
+    }
+
+    static VersionType type(long key) {
+        return VersionType.fromRank((int) (key >>> TYPE_SHIFT));
+    }
+
+    static int major(long key) {
+        return (int) ((key >>> MAJOR_SHIFT) & 0xFFF) - 1;
+    }
+
+    static int minor(long key) {
+        return (int) ((key >>> MINOR_SHIFT) & 0xFFF) - 1;
+    }
+
+    static int build(long key) {
+        return (int) ((key >>> BUILD_SHIFT) & 0xFFFFF) - 1;
+    }
+
+    static int revision(long key) {
+        return (int) (key & 0xFFFF) - 1;
+    }
+
+    /**
+     * Returns whether a long is a valid key.
+     *
+     * @param key The key.
+     * @return Whether the key can be unpacked.
+     *
+     * @since 1.4.0
+     */
+    static boolean isValid(long key) {
+        return key >= 0 && (key >>> TYPE_SHIFT) < VersionType.RANKS;
+    }
+}
@@ -0,0 +1,190 @@
+package com.github.luka5w.util.versioning;
+
+import java.text.ParsePosition;
+
+/**
+ * VersionParser
+ *
+ * <p>A single-pass parser for versions matching [&lt;type&gt;]&lt;major&gt;[.&lt;minor&gt;[.&lt;patch&gt;[.&lt;revision&gt;]]]
+ * and for semantic versions (SemVer 2.0) matching &lt;major&gt;.&lt;minor&gt;.&lt;patch&gt;[-&lt;pre-release&gt;][+&lt;build&gt;].</p>
+ *
+ * <p>The parser reads the chars directly from a {@link CharSequence},
+ * so nothing except the resulting {@link Version} is allocated (and nothing at all, when the version is cached).
+ * Errors are reported by returning null and setting the error index of a {@link ParsePosition}.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+final class VersionParser {
+    private static final int MAX_PARTS = 4;
+
+    private VersionParser() {}
+
+    /**
+     * Parses a version.
+     *
+     * @param s The chars to parse.
+     * @param start The index of the first char.
+     * @param end The index after the last char.
+     * @param minParts The minimal amount of numeric parts (1: major, 2: major and minor, ...).
+     * @param full Whether the version must end at end. Otherwise, the parser stops at the first char which doesn't belong to the version.
+     * @param pos Receives the index after the version on success or the error index on failure (nullable).
+     * @return The version or null when the chars don't contain a valid version.
+     *
+     * @since 1.4.0
+     */
+    static Version parse(CharSequence s, int start, int end, int minParts, boolean full, ParsePosition pos) {
+        int i = start;
+        while (i < end && isLetter(s.charAt(i))) i++;
+        VersionType type = VersionType.NONE;
+        if (i != start) {
+            type = VersionType.fromChars(s, start, i);
+            if (type == null) return fail(pos, start);
+        }
+        int major = -1;
+        int minor = -1;
+        int build = -1;
+        int revision = -1;
+        int parts = 0;
+        while (true) {
+            int digits = i;
+            long value = 0;
+            char c;
+            while (i < end && (c = s.charAt(i)) >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                if (value > Integer.MAX_VALUE) return fail(pos, digits);
+                i++;
+            }
+            if (i == digits) return fail(pos, i);
+            switch (parts++) {
+                case 0:
+                    major = (int) value;
+                    break;
+                case 1:
+                    minor = (int) value;
+                    break;
+                case 2:
+                    build = (int) value;
+                    break;
+                default:
+                    revision = (int) value;
+            }
+            if (parts == MAX_PARTS || i + 1 >= end || s.charAt(i) != '.') break;
+            // a trailing delimiter (e.g. the end of a sentence) is not part of the version
+            if (!full && !isDigit(s.charAt(i + 1))) break;
+            i++;
+        }
+        if (parts < minParts) return fail(pos, i);
+        if (full && i != end) return fail(pos, i);
+        if (pos != null) pos.setIndex(i);
+        return VersionCache.get(type, major, minor, build, revision);
+    }
+
+    /**
+     * Parses a semantic version.
+     *
+     * @param s The chars to parse.
+     * @param start The index of the first char.
+     * @param end The index after the last char.
+     * @param full Whether the version must end at end. Otherwise, the parser stops at the first char which doesn't belong to the version.
+     * @param pos Receives the index after the version on success or the error index on failure (nullable).
+     * @return The version or null when the chars don't contain a valid version.
+     *
+     * @since 1.4.0
+     */
+    static SemanticVersion parseSemantic(CharSequence s, int start, int end, boolean full, ParsePosition pos) {
+        int i = start;
+        int major = 0;
+        int minor = 0;
+        int patch = 0;
+        for (int part = 0; part < 3; part++) {
+            int digits = i;
+            long value = 0;
+            char c;
+            while (i < end && (c = s.charAt(i)) >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                if (value > Integer.MAX_VALUE) return fail(pos, digits);
+                i++;
+            }
+            if (i == digits) return fail(pos, i);
+            if (i - digits > 1 && s.charAt(digits) == '0') return fail(pos, digits);
+            if (part == 0) major = (int) value;
+            else if (part == 1) minor = (int) value;
+            else patch = (int) value;
+            if (part < 2) {
+                if (i >= end || s.charAt(i) != '.') return fail(pos, i);
+                i++;
+            }
+        }
+        int preStart = -1;
+        int preEnd = -1;
+        if (i < end && s.charAt(i) == '-' && (full || (i + 1 < end && isIdentifier(s.charAt(i + 1))))) {
+            preStart = i + 1;
+            preEnd = identifiers(s, preStart, end, true, full);
+            if (preEnd < 0) return fail(pos, -preEnd - 1);
+            i = preEnd;
+        }
+        int buildStart = -1;
+        int buildEnd = -1;
+        if (i < end && s.charAt(i) == '+' && (full || (i + 1 < end && isIdentifier(s.charAt(i + 1))))) {
+            buildStart = i + 1;
+            buildEnd = identifiers(s, buildStart, end, false, full);
+            if (buildEnd < 0) return fail(pos, -buildEnd - 1);
+            i = buildEnd;
+        }
+        if (full && i != end) return fail(pos, i);
+        if (pos != null) pos.setIndex(i);
+        return new SemanticVersion(major, minor, patch,
+                preStart < 0 ? null : s.subSequence(preStart, preEnd).toString(),
+                buildStart < 0 ? null : s.subSequence(buildStart, buildEnd).toString(), false);
+    }
+
+    /**
+     * Reads dot separated identifiers.
+     *
+     * @param s The chars to parse.
+     * @param i The index of the first char.
+     * @param end The index after the last char.
+     * @param numeric Whether numeric identifiers must not have leading zeros (pre-release).
+     * @param full Whether a dot must be followed by another identifier.
+     * @return The index after the identifiers or -(error index + 1).
+     *
+     * @since 1.4.0
+     */
+    private static int identifiers(CharSequence s, int i, int end, boolean numeric, boolean full) {
+        while (true) {
+            int identifier = i;
+            boolean digits = true;
+            char c;
+            while (i < end && isIdentifier(c = s.charAt(i))) {
+                if (!isDigit(c)) digits = false;
+                i++;
+            }
+            if (i == identifier) return -i - 1;
+            if (numeric && digits && i - identifier > 1 && s.charAt(identifier) == '0') return -identifier - 1;
+            if (i >= end || s.charAt(i) != '.') return i;
+            // a trailing delimiter (e.g. the end of a sentence) is not part of the version
+            if (!full && (i + 1 >= end || !isIdentifier(s.charAt(i + 1)))) return i;
+            i++;
+        }
+    }
+
+    private static <T> T fail(ParsePosition pos, int index) {
+        if (pos != null) pos.setErrorIndex(index);
+        return null;
+    }
+
+    static boolean isIdentifier(char c) {
+        return isDigit(c) || isLetter(c) || c == '-';
+    }
+
+    static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
@@ -0,0 +1,368 @@
+package com.github.luka5w.util.versioning;
+
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * VersionRange
+ *
+ * <p>A set of versions defined by a range expression.</p>
+ *
+ * <p>Supported expressions:</p>
+ * <ul>
+ *     <li>Maven ranges: <code>[1.2,2.0)</code>, <code>(,1.0]</code>, <code>[1.5,)</code>, <code>[1.2]</code>, <code>[1.0,2.0),[3.0,)</code></li>
+ *     <li>Comparators: <code>&gt;=1.0 &lt;2</code>, <code>&gt;1.0</code>, <code>&lt;=2.0</code>, <code>=1.2</code>, <code>1.2</code></li>
+ *     <li>Caret and tilde: <code>^1.3</code> (&gt;=1.3 &lt;2), <code>^0.3</code> (&gt;=0.3 &lt;0.4), <code>~1.3.2</code> (&gt;=1.3.2 &lt;1.4)</li>
+ *     <li>Any version: <code>*</code></li>
+ *     <li>Alternatives separated by <code>||</code></li>
+ * </ul>
+ *
+ * <p>Bounds are compared like versions (see {@link Version#compareTo(Version)}), so <code>&lt;=1.2</code> doesn't contain 1.2.0.
+ * Open bounds are limited to the type of the other bound, so <code>&gt;=1.0</code> doesn't contain v1.5.</p>
+ *
+ * <p>The expression is compiled into sorted intervals of keys (see {@link Version#toKey()}),
+ * so testing a version doesn't allocate and never throws.
+ * A version which can't be packed is in the range when it is between the lower bound and the highest packable version of an interval,
+ * so <code>&gt;=4094.4094</code> doesn't contain 5000.0.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public final class VersionRange implements Predicate<Version> {
+    private static final VersionRange ANY = new VersionRange("*", new long[]{0, Long.MAX_VALUE});
+
+    private final String range;
+    /** Sorted, disjoint intervals: lower bound (inclusive), upper bound (exclusive), lower bound, ... */
+    private final long[] bounds;
+
+    private VersionRange(String range, long[] bounds) {
+        this.range = range;
+        this.bounds = bounds;
+    }
+
+    /**
+     * Returns a range containing every version.
+     *
+     * @return The range.
+     *
+     * @since 1.4.0
+     */
+    public static VersionRange any() {
+        return ANY;
+    }
+
+    /**
+     * Parses a range expression.
+     *
+     * @param range The expression.
+     * @return The range.
+     *
+     * @throws IllegalArgumentException When the expression is invalid or a bound can't be packed. See {@link Version#toKey()}.
+     *
+     * @since 1.4.0
+     */
+    public static VersionRange parse(String range) {
+        return new Parser(range).parse();
+    }
+
+    /**
+     * Returns whether a version is in this range.
+     *
+     * @param version The version.
+     * @return Whether the version is in this range.
+     *
+     * @since 1.4.0
+     */
+    @Override
+    public boolean test(Version version) {
+        if (version.isPackable()) return this.matches(version.toKey());
+        // compare the numbers, saturating them would match the highest versions of the range
+        long[] bounds = this.bounds;
+        for (int i = 0; i < bounds.length; i += 2) {
+            if (compare(bounds[i], version) > 0) return false;
+            if (compare(bounds[i + 1] - 1, version) > 0) return true;
+        }
+        return false;
+    }
+
+    private static int compare(long key, Version version) {
+        return VersionKey.compare(key, version.getType(), version.getMajor(), version.getMinor(), version.getBuild(), version.getRevision());
+    }
+
+    /**
+     * Returns whether the version of a key is in this range.
+     *
+     * @param key The key. See {@link Version#toKey()}.
+     * @return Whether the version is in this range.
+     *
+     * @since 1.4.0
+     */
+    public boolean matches(long key) {
+        long[] bounds = this.bounds;
+        for (int i = 0; i < bounds.length; i += 2) {
+            if (key < bounds[i]) return false;
+            if (key < bounds[i + 1]) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether no version is in this range.
+     *
+     * @return Whether this range is empty.
+     *
+     * @since 1.4.0
+     */
+    public boolean isEmpty() {
+        return this.bounds.length == 0;
+    }
+
+    /**
+     * Returns the compiled intervals.
+     *
+     * @return Sorted, disjoint pairs of lower (inclusive) and upper (exclusive) keys. Must not be modified.
+     *
+     * @since 1.4.0
+     */
+    long[] bounds() {
+        return this.bounds;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return (o instanceof VersionRange) && Arrays.equals(((VersionRange) o).bounds, this.bounds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.bounds);
+    }
+
+    /**
+     * Returns the expression of this range.
+     *
+     * @return The expression.
+     *
+     * @since 1.4.0
+     */
+    @Override
+    public String toString() {
+        return this.range;
+    }
+
+    /**
+     * A recursive descent parser for range expressions.
+     */
+    private static final class Parser {
+        private final String s;
+        private final List<long[]> intervals = new ArrayList<>();
+        private int i = 0;
+
+        private Parser(String s) {
+            this.s = s;
+        }
+
+        private VersionRange parse() {
+            while (true) {
+                this.skipSpaces();
+                if (this.i < this.s.length() && (this.s.charAt(this.i) == '[' || this.s.charAt(this.i) == '(')) {
+                    this.brackets();
+                }
+                else {
+                    this.comparators();
+                }
+                this.skipSpaces();
+                if (this.i == this.s.length()) break;
+                if (!this.s.startsWith("||", this.i)) throw this.error(this.i);
+                this.i += 2;
+            }
+            return new VersionRange(this.s, this.compile());
+        }
+
+        /**
+         * Parses one or more Maven ranges separated by commas.
+         */
+        private void brackets() {
+            while (true) {
+                boolean lowerInclusive = this.s.charAt(this.i++) == '[';
+                this.skipSpaces();
+                Version lower = this.peek(',') ? null : this.version();
+                this.skipSpaces();
+                if (lower != null && lowerInclusive && this.peek(']')) {
+                    this.i++;
+                    long key = lower.toKey();
+                    this.add(key, key + 1);
+                }
+                else {
+                    this.expect(',');
+                    this.skipSpaces();
+                    Version upper = this.peek(']') || this.peek(')') ? null : this.version();
+                    this.skipSpaces();
+                    if (!this.peek(']') && !this.peek(')')) throw this.error(this.i);
+                    boolean upperInclusive = this.s.charAt(this.i++) == ']';
+                    if (lower == null && upper == null) {
+                        this.add(0, Long.MAX_VALUE);
+                    }
+                    else {
+                        VersionType type = (lower != null ? lower : upper).getType();
+                        long from = lower == null ? VersionKey.first(type) : lower.toKey() + (lowerInclusive ? 0 : 1);
+                        long to = upper == null ? VersionKey.end(type) : upper.toKey() + (upperInclusive ? 1 : 0);
+                        this.add(from, to);
+                    }
+                }
+                int next = this.i;
+                this.skipSpaces();
+                if (!this.peek(',')) {
+                    this.i = next;
+                    return;
+                }
+                this.i++;
+                this.skipSpaces();
+                if (!this.peek('[') && !this.peek('(')) throw this.error(this.i);
+            }
+        }
+
+        /**
+         * Parses comparators separated by spaces which all must match.
+         */
+        private void comparators() {
+            long from = 0;
+            long to = Long.MAX_VALUE;
+            boolean empty = true;
+            while (true) {
+                this.skipSpaces();
+                if (this.i == this.s.length() || this.s.startsWith("||", this.i)) break;
+                empty = false;
+                long[] interval = this.comparator();
+                from = Math.max(from, interval[0]);
+                to = Math.min(to, interval[1]);
+            }
+            if (empty) throw this.error(this.i);
+            this.add(from, to);
+        }
+
+        private long[] comparator() {
+            int start = this.i;
+            String op = "=";
+            for (String o : new String[]{">=", "<=", ">", "<", "=", "^", "~"}) {
+                if (this.s.startsWith(o, this.i)) {
+                    op = o;
+                    this.i += o.length();
+                    break;
+                }
+            }
+            this.skipSpaces();
+            if (this.i == start && this.i < this.s.length() && "*xX".indexOf(this.s.charAt(this.i)) >= 0
+                    && (this.i + 1 == this.s.length() || isDelimiter(this.s.charAt(this.i + 1)))) {
+                this.i++;
+                return new long[]{0, Long.MAX_VALUE};
+            }
+            Version version = this.version();
+            long key = version.toKey();
+            VersionType type = version.getType();
+            switch (op) {
+                case ">=":
+                    return new long[]{key, VersionKey.end(type)};
+                case ">":
+                    return new long[]{key + 1, VersionKey.end(type)};
+                case "<=":
+                    return new long[]{VersionKey.first(type), key + 1};
+                case "<":
+                    return new long[]{VersionKey.first(type), key};
+                case "^":
+                    return new long[]{key, caret(key)};
+                case "~":
+                    return new long[]{key, tilde(key)};
+                default:
+                    return new long[]{key, key + 1};
+            }
+        }
+
+        /**
+         * Returns the upper bound of ^version: the first non-zero number is incremented.
+         */
+        private static long caret(long key) {
+            VersionType type = VersionKey.type(key);
+            int major = VersionKey.major(key);
+            int minor = VersionKey.minor(key);
+            int build = VersionKey.build(key);
+            int revision = VersionKey.revision(key);
+            if (major > 0 || minor == -1) return bump(type, major + 1, -1, -1, -1);
+            if (minor > 0 || build == -1) return bump(type, major, minor + 1, -1, -1);
+            if (build > 0 || revision == -1) return bump(type, major, minor, build + 1, -1);
+            return bump(type, major, minor, build, revision + 1);
+        }
+
+        /**
+         * Returns the upper bound of ~version: the minor version is incremented, or the major version when there is no minor version.
+         */
+        private static long tilde(long key) {
+            VersionType type = VersionKey.type(key);
+            int major = VersionKey.major(key);
+            int minor = VersionKey.minor(key);
+            if (minor == -1) return bump(type, major + 1, -1, -1, -1);
+            return bump(type, major, minor + 1, -1, -1);
+        }
+
+        private static long bump(VersionType type, int major, int minor, int build, int revision) {
+            long key = VersionKey.pack(type, major, minor, build, revision);
+            return key == VersionKey.NONE ? VersionKey.end(type) : key;
+        }
+
+        private Version version() {
+            int start = this.i;
+            while (this.i < this.s.length() && !isDelimiter(this.s.charAt(this.i))) this.i++;
+            ParsePosition pos = new ParsePosition(start);
+            Version version = VersionParser.parse(this.s, start, this.i, 1, true, pos);
+            if (version == null) throw this.error(pos.getErrorIndex());
+            if (!version.isPackable()) throw new IllegalArgumentException("Version exceeds packable range (err at pos " + start + ")");
+            return version;
+        }
+
+        private void add(long from, long to) {
+            if (from < to) this.intervals.add(new long[]{from, to});
+        }
+
+        private long[] compile() {
+            this.intervals.sort((a, b) -> Long.compare(a[0], b[0]));
+            long[] bounds = new long[this.intervals.size() * 2];
+            int n = 0;
+            for (long[] interval : this.intervals) {
+                if (n != 0 && interval[0] <= bounds[n - 1]) {
+                    bounds[n - 1] = Math.max(bounds[n - 1], interval[1]);
+                }
+                else {
+                    bounds[n++] = interval[0];
+                    bounds[n++] = interval[1];
+                }
+            }
+            return Arrays.copyOf(bounds, n);
+        }
+
+        private boolean peek(char c) {
+            return this.i < this.s.length() && this.s.charAt(this.i) == c;
+        }
+
+        private void expect(char c) {
+            if (!this.peek(c)) throw this.error(this.i);
+            this.i++;
+        }
+
+        private void skipSpaces() {
+            while (this.i < this.s.length() && Character.isWhitespace(this.s.charAt(this.i))) this.i++;
+        }
+
+        private static boolean isDelimiter(char c) {
+            return Character.isWhitespace(c) || c == ',' || c == ']' || c == ')' || c == '|';
+        }
+
+        private IllegalArgumentException error(int index) {
+            return new IllegalArgumentException("Unknown Version Range (err at pos " + index + ")");
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.github.luka5w.util.versioning;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParsePosition;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * VersionScanner
+ *
+ * <p>Finds all versions in large texts, e.g. manifests or lockfiles.</p>
+ *
+ * <p>The text is split into words of letters, digits and dots.
+ * Every word which is a version (see {@link Version#fromString(String)}, a trailing dot is ignored) is passed to a sink.
+ * The versions are parsed directly from the text without creating a String per word.
+ * Files are memory-mapped and read as ASCII, so UTF-8 encoded files can be scanned without decoding them.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public final class VersionScanner {
+    /** The maximal size of a memory-mapped region of a file. */
+    private static final int REGION = 256 << 20;
+    /** The minimal size of a chunk parsed by one thread. */
+    private static final int MIN_CHUNK = 64 << 10;
+
+    private VersionScanner() {}
+
+    /**
+     * Passes every version of a text to a sink.
+     *
+     * @param text The text.
+     * @param sink The sink.
+     *
+     * @since 1.4.0
+     */
+    public static void scan(CharSequence text, Consumer<Version> sink) {
+        scan(text, 0, text.length(), sink);
+    }
+
+    /**
+     * Passes the key of every version of a text to a sink. Versions which can't be packed are skipped.
+     *
+     * @param text The text.
+     * @param sink The sink. See {@link Version#toKey()}.
+     *
+     * @since 1.4.0
+     */
+    public static void scanKeys(CharSequence text, LongConsumer sink) {
+        scan(text, 0, text.length(), v -> {
+            if (v.isPackable()) sink.accept(v.toKey());
+        });
+    }
+
+    /**
+     * Collects all versions of a text. Versions which can't be packed are skipped.
+     *
+     * @param text The text.
+     * @return The versions (in the order of the text, including duplicates).
+     *
+     * @since 1.4.0
+     */
+    public static VersionSet scan(CharSequence text) {
+        VersionSet set = new VersionSet();
+        scanKeys(text, set::addKey);
+        return set;
+    }
+
+    /**
+     * Collects all versions of a text using multiple threads. Versions which can't be packed are skipped.
+     *
+     * <p>The text is split into chunks between words, which are parsed in the common fork join pool.</p>
+     *
+     * @param text The text (must be safe for reading by multiple threads).
+     * @return The versions (in the order of the text, including duplicates).
+     *
+     * @since 1.4.0
+     */
+    public static VersionSet scanParallel(CharSequence text) {
+        int length = text.length();
+        int chunks = (int) Math.min(Runtime.getRuntime().availableProcessors() * 4L, Math.max(1, length / MIN_CHUNK));
+        if (chunks <= 1) return scan(text);
+        int[] bounds = new int[chunks + 1];
+        bounds[chunks] = length;
+        for (int k = 1; k < chunks; k++) {
+            int bound = Math.max(bounds[k - 1], (int) ((long) length * k / chunks));
+            while (bound < length && isWordChar(text.charAt(bound))) bound++;
+            bounds[k] = bound;
+        }
+        VersionSet[] sets = new VersionSet[chunks];
+        IntStream.range(0, chunks).parallel().forEach(k -> {
+            VersionSet set = new VersionSet();
+            scan(text, bounds[k], bounds[k + 1], v -> {
+                if (v.isPackable()) set.addKey(v.toKey());
+            });
+            sets[k] = set;
+        });
+        VersionSet result = new VersionSet();
+        for (VersionSet set : sets) result.addAll(set);
+        return result;
+    }
+
+    /**
+     * Collects all versions of a file. Versions which can't be packed are skipped.
+     *
+     * <p>The file is memory-mapped in regions of up to 256 MiB and read as ASCII.</p>
+     *
+     * @param file The file.
+     * @param parallel Whether the regions are parsed using multiple threads. See {@link #scanParallel(CharSequence)}.
+     * @return The versions (in the order of the file, including duplicates).
+     *
+     * @throws IOException When a file operation went wrong.
+     *
+     * @since 1.4.0
+     */
+    public static VersionSet scan(Path file, boolean parallel) throws IOException {
+        VersionSet result = new VersionSet();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                int length = (int) Math.min(REGION, size - position);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                if (position + length < size) {
+                    // don't split a word between two regions
+                    int cut = length;
+                    while (cut > 0 && isWordChar((char) (buffer.get(cut - 1) & 0xFF))) cut--;
+                    if (cut > 0) length = cut;
+                    buffer.limit(length);
+                }
+                AsciiSequence text = new AsciiSequence(buffer);
+                if (parallel) result.addAll(scanParallel(text));
+                else scanKeys(text, result::addKey);
+                position += length;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Passes every version in a range of a text to a sink.
+     *
+     * @param s The text.
+     * @param start The index of the first char.
+     * @param end The index after the last char.
+     * @param sink The sink.
+     *
+     * @since 1.4.0
+     */
+    private static void scan(CharSequence s, int start, int end, Consumer<Version> sink) {
+        ParsePosition pos = new ParsePosition(start);
+        int i = start;
+        while (true) {
+            while (i < end && !isWordChar(s.charAt(i))) i++;
+            if (i >= end) return;
+            int word = i;
+            while (i < end && isWordChar(s.charAt(i))) i++;
+            pos.setIndex(word);
+            Version version = VersionParser.parse(s, word, i, 2, false, pos);
+            if (version == null) continue;
+            int rest = pos.getIndex();
+            while (rest < i && s.charAt(rest) == '.') rest++;
+            if (rest == i) sink.accept(version);
+        }
+    }
+
+    private static boolean isWordChar(char c) {
+        return VersionParser.isDigit(c) || VersionParser.isLetter(c) || c == '.';
+    }
+}
@@ -0,0 +1,475 @@
+package com.github.luka5w.util.versioning;
+
+import java.util.Arrays;
+
+/**
+ * VersionSet
+ *
+ * <p>A compact container for many versions.</p>
+ *
+ * <p>The versions are stored as keys (see {@link Version#toKey()}) in a single growing long array,
+ * so every version takes 8 bytes and no objects are created per version.
+ * Versions are appended without checking for duplicates, call {@link #dedupe()} to remove them.
+ * Only versions which can be packed can be stored.</p>
+ *
+ * <p>The versions can be iterated with a {@link Cursor}, which reads the numbers directly from the keys.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ *
+ * GitHub: https://github.com/luka5w/javautils
+ *
+ * @author Lukas // https://github.com/luka5w
+ * @version 1.0.0
+ */
+public final class VersionSet {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] keys;
+    private int size = 0;
+    private boolean sorted = true;
+    private boolean distinct = true;
+
+    /**
+     * Creates a new empty set.
+     *
+     * @since 1.4.0
+     */
+    public VersionSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty set.
+     *
+     * @param capacity The amount of versions which can be added before the set grows.
+     *
+     * @since 1.4.0
+     */
+    public VersionSet(int capacity) {
+        this.keys = new long[Math.max(capacity, 1)];
+    }
+
+    private VersionSet(long[] keys, int size, boolean sorted, boolean distinct) {
+        this.keys = keys;
+        this.size = size;
+        this.sorted = sorted;
+        this.distinct = distinct;
+    }
+
+    /**
+     * Adds a version.
+     *
+     * @param version The version.
+     *
+     * @throws IllegalArgumentException When the version can't be packed.
+     *
+     * @since 1.4.0
+     */
+    public void add(Version version) {
+        if (!version.isPackable()) throw new IllegalArgumentException("version can't be packed: " + version);
+        this.addKey(version.toKey());
+    }
+
+    /**
+     * Adds the version of a key.
+     *
+     * @param key The key. See {@link Version#toKey()}.
+     *
+     * @throws IllegalArgumentException When the key is invalid.
+     *
+     * @since 1.4.0
+     */
+    public void addKey(long key) {
+        if (!VersionKey.isValid(key)) throw new IllegalArgumentException("invalid version key");
+        if (this.size == this.keys.length) this.keys = Arrays.copyOf(this.keys, this.size + (this.size >> 1) + 1);
+        if (this.size != 0) {
+            long last = this.keys[this.size - 1];
+            if (key < last) this.sorted = false;
+            if (key <= last) this.distinct = false;
+        }
+        this.keys[this.size++] = key;
+    }
+
+    /**
+     * Adds all versions of another set.
+     *
+     * @param set The other set.
+     *
+     * @since 1.4.0
+     */
+    public void addAll(VersionSet set) {
+        if (set.size == 0) return;
+        if (this.size + set.size > this.keys.length) this.keys = Arrays.copyOf(this.keys, this.size + set.size);
+        if (this.size != 0) {
+            long last = this.keys[this.size - 1];
+            if (set.keys[0] < last || !set.sorted) this.sorted = false;
+            if (set.keys[0] <= last || !set.distinct) this.distinct = false;
+        }
+        else {
+            this.sorted = set.sorted;
+            this.distinct = set.distinct;
+        }
+        System.arraycopy(set.keys, 0, this.keys, this.size, set.size);
+        this.size += set.size;
+    }
+
+    /**
+     * Returns the amount of versions (including duplicates, see {@link #dedupe()}).
+     *
+     * @return The size of this set.
+     *
+     * @since 1.4.0
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns whether this set contains no versions.
+     *
+     * @return Whether this set is empty.
+     *
+     * @since 1.4.0
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Removes all versions.
+     *
+     * @since 1.4.0
+     */
+    public void clear() {
+        this.size = 0;
+        this.sorted = true;
+        this.distinct = true;
+    }
+
+    /**
+     * Returns the key at a position.
+     *
+     * @param index The position.
+     * @return The key.
+     *
+     * @since 1.4.0
+     */
+    public long getKey(int index) {
+        if (index >= this.size) throw new IndexOutOfBoundsException("index: " + index + ", size: " + this.size);
+        return this.keys[index];
+    }
+
+    /**
+     * Returns the version at a position.
+     *
+     * @param index The position.
+     * @return The version.
+     *
+     * @since 1.4.0
+     */
+    public Version get(int index) {
+        return Version.fromKey(this.getKey(index));
+    }
+
+    /**
+     * Returns whether this set contains a version.
+     *
+     * <p>Sorted sets are searched binary, unsorted sets linear.</p>
+     *
+     * @param version The version.
+     * @return Whether this set contains the version.
+     *
+     * @since 1.4.0
+     */
+    public boolean contains(Version version) {
+        if (!version.isPackable()) return false;
+        long key = version.toKey();
+        if (this.sorted) return Arrays.binarySearch(this.keys, 0, this.size, key) >= 0;
+        for (int i = 0; i < this.size; i++) {
+            if (this.keys[i] == key) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Sorts the versions ascending.
+     *
+     * @since 1.4.0
+     */
+    public void sort() {
+        if (this.sorted) return;
+        Arrays.sort(this.keys, 0, this.size);
+        this.sorted = true;
+    }
+
+    /**
+     * Sorts the versions and removes duplicates.
+     *
+     * @since 1.4.0
+     */
+    public void dedupe() {
+        if (this.distinct && this.sorted) return;
+        this.sort();
+        int n = 0;
+        for (int i = 0; i < this.size; i++) {
+            if (n == 0 || this.keys[i] != this.keys[n - 1]) this.keys[n++] = this.keys[i];
+        }
+        this.size = n;
+        this.distinct = true;
+    }
+
+    /**
+     * Returns all versions which are in this or in the other set.
+     *
+     * <p>Both sets get sorted and deduplicated. See {@link #dedupe()}.</p>
+     *
+     * @param set The other set.
+     * @return A new set.
+     *
+     * @since 1.4.0
+     */
+    public VersionSet union(VersionSet set) {
+        return this.merge(set, true, true, true);
+    }
+
+    /**
+     * Returns all versions which are in this and in the other set.
+     *
+     * <p>Both sets get sorted and deduplicated. See {@link #dedupe()}.</p>
+     *
+     * @param set The other set.
+     * @return A new set.
+     *
+     * @since 1.4.0
+     */
+    public VersionSet intersect(VersionSet set) {
+        return this.merge(set, false, true, false);
+    }
+
+    /**
+     * Returns all versions which are in this but not in the other set.
+     *
+     * <p>Both sets get sorted and deduplicated. See {@link #dedupe()}.</p>
+     *
+     * @param set The other set.
+     * @return A new set.
+     *
+     * @since 1.4.0
+     */
+    public VersionSet difference(VersionSet set) {
+        return this.merge(set, true, false, false);
+    }
+
+    /**
+     * Merges two sorted sets.
+     *
+     * @param set The other set.
+     * @param onlyThis Whether versions only in this set are kept.
+     * @param both Whether versions in both sets are kept.
+     * @param onlyOther Whether versions only in the other set are kept.
+     * @return A new set.
+     *
+     * @since 1.4.0
+     */
+    private VersionSet merge(VersionSet set, boolean onlyThis, boolean both, boolean onlyOther) {
+        this.dedupe();
+        set.dedupe();
+        long[] a = this.keys;
+        long[] b = set.keys;
+        long[] result = new long[Math.max(1, (onlyThis ? this.size : 0) + (onlyOther ? set.size : 0) + (both && !onlyThis && !onlyOther ? Math.min(this.size, set.size) : 0))];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < this.size && j < set.size) {
+            if (a[i] < b[j]) {
+                if (onlyThis) result[n++] = a[i];
+                i++;
+            }
+            else if (a[i] > b[j]) {
+                if (onlyOther) result[n++] = b[j];
+                j++;
+            }
+            else {
+                if (both) result[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        if (onlyThis) while (i < this.size) result[n++] = a[i++];
+        if (onlyOther) while (j < set.size) result[n++] = b[j++];
+        return new VersionSet(result, n, true, true);
+    }
+
+    /**
+     * Creates an immutable index of the versions in this set.
+     *
+     * @return The index.
+     *
+     * @since 1.4.0
+     */
+    public VersionIndex toIndex() {
+        this.dedupe();
+        return new VersionIndex(Arrays.copyOf(this.keys, this.size));
+    }
+
+    /**
+     * Returns a copy of the keys.
+     *
+     * @return The keys.
+     *
+     * @since 1.4.0
+     */
+    public long[] toKeyArray() {
+        return Arrays.copyOf(this.keys, this.size);
+    }
+
+    /**
+     * Returns a new cursor positioned before the first version.
+     *
+     * @return The cursor.
+     *
+     * @since 1.4.0
+     */
+    public Cursor cursor() {
+        return new Cursor(this);
+    }
+
+    /**
+     * A reusable view of one version of a {@link VersionSet} at a time.
+     *
+     * <pre>
+     * VersionSet.Cursor cursor = set.cursor();
+     * while (cursor.next()) {
+     *     if (cursor.getMajor() == 1) ...
+     * }
+     * </pre>
+     *
+     * <p>The cursor must not be used after the set was modified (except by {@link #reset(VersionSet)}).</p>
+     */
+    public static final class Cursor {
+        private VersionSet set;
+        private int index = -1;
+        private long key = VersionKey.NONE;
+
+        private Cursor(VersionSet set) {
+            this.set = set;
+        }
+
+        /**
+         * Moves this cursor to the next version.
+         *
+         * @return Whether there is a next version.
+         *
+         * @since 1.4.0
+         */
+        public boolean next() {
+            if (this.index + 1 >= this.set.size) {
+                this.index = this.set.size;
+                return false;
+            }
+            this.key = this.set.keys[++this.index];
+            return true;
+        }
+
+        /**
+         * Positions this cursor before the first version of a set.
+         *
+         * @param set The set (may be the same or another set).
+         *
+         * @since 1.4.0
+         */
+        public void reset(VersionSet set) {
+            this.set = set;
+            this.index = -1;
+            this.key = VersionKey.NONE;
+        }
+
+        /**
+         * Returns the position of the current version.
+         *
+         * @return The position.
+         *
+         * @since 1.4.0
+         */
+        public int getIndex() {
+            return this.index;
+        }
+
+        /**
+         * Returns the key of the current version.
+         *
+         * @return The key.
+         *
+         * @since 1.4.0
+         */
+        public long getKey() {
+            return this.key;
+        }
+
+        /**
+         * Returns the type of the current version.
+         *
+         * @return The type.
+         *
+         * @since 1.4.0
+         */
+        public VersionType getType() {
+            return VersionKey.type(this.key);
+        }
+
+        /**
+         * Returns the major version of the current version.
+         *
+         * @return The major version.
+         *
+         * @since 1.4.0
+         */
+        public int getMajor() {
+            return VersionKey.major(this.key);
+        }
+
+        /**
+         * Returns the minor version of the current version.
+         *
+         * @return The minor version or -1 when there is none.
+         *
+         * @since 1.4.0
+         */
+        public int getMinor() {
+            return VersionKey.minor(this.key);
+        }
+
+        /**
+         * Returns the build version of the current version.
+         *
+         * @return The build version or -1 when there is none.
+         *
+         * @since 1.4.0
+         */
+        public int getBuild() {
+            return VersionKey.build(this.key);
+        }
+
+        /**
+         * Returns the revision of the current version.
+         *
+         * @return The revision or -1 when there is none.
+         *
+         * @since 1.4.0
+         */
+        public int getRevision() {
+            return VersionKey.revision(this.key);
+        }
+
+        /**
+         * Returns the current version as (shared) object.
+         *
+         * @return The version.
+         *
+         * @since 1.4.0
+         */
+        public Version toVersion() {
+            return Version.fromKey(this.key);
+        }
+    }
+}
@@ -8,20 +8,54 @@ package com.github.luka5w.util.versioning;
  * GitHub: https://github.com/luka5w/javautils
  *
  * @author Lukas // https://github.com/luka5w
- * @version 1.1.0
+ * @version 1.2.0
  */
 public enum VersionType {
-    ALPHA("a"),
-    BETA("b"),
-    PRE("pre"),
-    DEV("dev"),
-    FULL("v"),
-    NONE("");
+    ALPHA("a", 1),
+    BETA("b", 2),
+    PRE("pre", 3),
+    DEV("dev", 0),
+    FULL("v", 5),
+    NONE("", 4);
+
+    static final int RANKS = 6;
+
+    private static final VersionType[] VALUES = values();
+    private static final VersionType[] BY_RANK = new VersionType[RANKS];
+
+    static {
+        for (VersionType type : VALUES) BY_RANK[type.rank] = type;
+    }
 
     private final String type;
+    private final int rank;
 
-    VersionType(String type) {
+    VersionType(String type, int rank) {
         this.type = type;
+        this.rank = rank;
+    }
+
+    /**
+     * Returns the position of this type in the order of versions (dev &lt; a &lt; b &lt; pre &lt; none &lt; v).
+     *
+     * @return The rank (0 up to 5).
+     *
+     * @since 1.4.0
+     */
+    public int rank() {
+        return this.rank;
+    }
+
+    /**
+     * Returns the enum with a rank.
+     *
+     * @param rank The rank. See {@link #rank()}.
+     * @return The enum with the rank.
+     *
+     * @since 1.4.0
+     */
+    static VersionType fromRank(int rank) {
+        return BY_RANK[rank];
     }
 
     /**
@@ -53,6 +87,26 @@ public enum VersionType {
         }
     }
 
+    /**
+     * Returns the enum matching a range of chars, ignoring the case.
+     *
+     * @param s The chars.
+     * @param start The index of the first char.
+     * @param end The index after the last char.
+     * @return The enum matching the chars or null when no enum was found.
+     *
+     * @since 1.4.0
+     */
+    static VersionType fromChars(CharSequence s, int start, int end) {
+        for (VersionType type : VALUES) {
+            if (type.type.length() != end - start) continue;
+            int i = 0;
+            while (i < type.type.length() && (s.charAt(start + i) | 0x20) == type.type.charAt(i)) i++;
+            if (i == type.type.length()) return type;
+        }
+        return null;
+    }
+
     @Override
     public String toString() {
         return this.type;